@@ -0,0 +1,113 @@
+package com.selimhorri.app.config.filter;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+	
+	public static final String USERNAME_HEADER = "X-Auth-Username";
+	public static final String ROLE_HEADER = "X-Auth-Role";
+	private static final String BEARER_PREFIX = "Bearer ";
+	
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final JwtProperties jwtProperties;
+	private final JwtUtil jwtUtil;
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		// identity headers are only trusted when this filter has set them
+		final ServerHttpRequest request = exchange.getRequest().mutate()
+				.headers(headers -> {
+					headers.remove(USERNAME_HEADER);
+					headers.remove(ROLE_HEADER);
+				})
+				.build();
+		
+		final var authorizationHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		
+		if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+			if (HttpMethod.OPTIONS.equals(request.getMethod()) || !this.isProtected(request.getPath().value())) {
+				return chain.filter(exchange.mutate().request(request).build());
+			}
+			return this.reject(exchange, "missing bearer token");
+		}
+		
+		final Claims claims = this.parseClaims(authorizationHeader.substring(BEARER_PREFIX.length()));
+		if (claims == null || !this.jwtUtil.validateToken(claims)) {
+			return this.reject(exchange, "invalid bearer token");
+		}
+		
+		final var role = this.jwtUtil.extractRole(claims);
+		return chain.filter(exchange.mutate()
+				.request(request.mutate()
+						.headers(headers -> {
+							headers.set(USERNAME_HEADER, claims.getSubject());
+							if (role != null) {
+								headers.set(ROLE_HEADER, role);
+							}
+						})
+						.build())
+				.build());
+	}
+	
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+	
+	private boolean isProtected(final String path) {
+		return this.jwtProperties.getProtectedPaths().stream()
+				.anyMatch(pattern -> this.pathMatcher.match(pattern, path));
+	}
+	
+	private Claims parseClaims(final String jwt) {
+		try {
+			return this.jwtUtil.extractAllClaims(jwt);
+		}
+		catch (JwtException | IllegalArgumentException e) {
+			log.debug("**JwtAuthenticationFilter, rejected invalid token: {}*\n", e.getMessage());
+			return null;
+		}
+	}
+	
+	private Mono<Void> reject(final ServerWebExchange exchange, final String reason) {
+		log.debug("**JwtAuthenticationFilter, {} for {}*\n", reason, exchange.getRequest().getPath());
+		exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+		exchange.getResponse().getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+		return exchange.getResponse().setComplete();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
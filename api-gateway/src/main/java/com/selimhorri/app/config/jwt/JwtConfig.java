@@ -0,0 +1,69 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtConfig {
+	
+	public static final String VERIFIED_CLAIMS_CACHE = "verifiedClaimsCache";
+	
+	@Bean
+	public Cache<String, Claims> verifiedClaimsCacheBean(final JwtProperties jwtProperties, final MeterRegistry meterRegistry) {
+		final Cache<String, Claims> verifiedClaimsCache = Caffeine.newBuilder()
+				.maximumSize(jwtProperties.getClaimsCacheMaximumSize())
+				.expireAfter(new Expiry<String, Claims>() {
+			
+					@Override
+					public long expireAfterCreate(final String key, final Claims claims, final long currentTime) {
+						// never keep verified claims past the token's own expiration
+						final var timeToLive = jwtProperties.getClaimsCacheTimeToLive();
+						if (claims.getExpiration() == null) {
+							return timeToLive.toNanos();
+						}
+						final var untilExpiration = Duration.between(Instant.now(), claims.getExpiration().toInstant());
+						return Math.max(0L, (untilExpiration.compareTo(timeToLive) < 0 ? untilExpiration : timeToLive).toNanos());
+					}
+			
+					@Override
+					public long expireAfterUpdate(final String key, final Claims claims, final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+			
+					@Override
+					public long expireAfterRead(final String key, final Claims claims, final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+			
+				})
+				.recordStats()
+				.build();
+		return CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaimsCache, VERIFIED_CLAIMS_CACHE);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
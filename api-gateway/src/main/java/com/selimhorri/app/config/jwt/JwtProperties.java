@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+	
+	private String secret = "secret";
+	private long claimsCacheMaximumSize = 10_000;
+	private Duration claimsCacheTimeToLive = Duration.ofMinutes(5);
+	private List<String> protectedPaths = new ArrayList<>();
+	
+}
@@ -0,0 +1,11 @@
+package com.selimhorri.app.jwt.util;
+
+import io.jsonwebtoken.Claims;
+
+public interface JwtUtil {
+	
+	Claims extractAllClaims(final String token);
+	Boolean validateToken(final Claims claims);
+	String extractRole(final Claims claims);
+	
+}
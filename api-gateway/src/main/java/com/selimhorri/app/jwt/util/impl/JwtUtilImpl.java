@@ -0,0 +1,76 @@
+package com.selimhorri.app.jwt.util.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class JwtUtilImpl implements JwtUtil {
+	
+	private static final String ROLE_CLAIM = "role";
+	private static final String ENABLED_CLAIM = "enabled";
+	private static final String ACCOUNT_NON_LOCKED_CLAIM = "accountNonLocked";
+	
+	private final JwtProperties jwtProperties;
+	private final Cache<String, Claims> verifiedClaimsCache;
+	
+	@Override
+	public Claims extractAllClaims(final String token) {
+		return this.verifiedClaimsCache.get(digest(token),
+				d -> Jwts.parser().setSigningKey(this.jwtProperties.getSecret()).parseClaimsJws(token).getBody());
+	}
+	
+	private static String digest(final String token) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	@Override
+	public Boolean validateToken(final Claims claims) {
+		// tokens issued without account state claims are left for proxy-client to check against user-service,
+		// but a token without an expiry never stops being valid, so it is rejected here
+		return (
+			claims.getSubject() != null
+				&& claims.getExpiration() != null
+				&& claims.getExpiration().after(new Date())
+				&& !Boolean.FALSE.equals(claims.get(ENABLED_CLAIM, Boolean.class))
+				&& !Boolean.FALSE.equals(claims.get(ACCOUNT_NON_LOCKED_CLAIM, Boolean.class))
+		);
+	}
+	
+	@Override
+	public String extractRole(final Claims claims) {
+		return claims.get(ROLE_CLAIM, String.class);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,151 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import reactor.core.publisher.Mono;
+
+public class JwtAuthenticationFilterTest {
+    
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private AtomicReference<ServerWebExchange> forwarded;
+    private GatewayFilterChain chain;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        final JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setProtectedPaths(List.of("/order-service/**"));
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtProperties,
+                new JwtUtilImpl(jwtProperties, Caffeine.newBuilder().maximumSize(10).build()));
+        
+        forwarded = new AtomicReference<>();
+        chain = exchange -> {
+            forwarded.set(exchange);
+            return Mono.empty();
+        };
+    }
+    
+    private static String token(final String secret, final boolean accountNonLocked) {
+        return Jwts.builder()
+                .claim("role", "ROLE_USER")
+                .claim("enabled", true)
+                .claim("accountNonLocked", accountNonLocked)
+                .setSubject("selimhorri")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, secret)
+                .compact();
+    }
+    
+    @Test
+    @DisplayName("Test valid token is forwarded with verified identity headers")
+    public void testFilter_WhenTokenValid() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/order-service/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("secret", true))
+                .header(JwtAuthenticationFilter.ROLE_HEADER, "ROLE_ADMIN"));
+        
+        // Act
+        jwtAuthenticationFilter.filter(exchange, chain).block();
+        
+        // Assert
+        HttpHeaders headers = forwarded.get().getRequest().getHeaders();
+        assertEquals("selimhorri", headers.getFirst(JwtAuthenticationFilter.USERNAME_HEADER));
+        assertEquals(List.of("ROLE_USER"), headers.get(JwtAuthenticationFilter.ROLE_HEADER));
+    }
+    
+    @Test
+    @DisplayName("Test token signed with another secret is rejected at the edge")
+    public void testFilter_WhenSignatureInvalid() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/app/api/products")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("another", true)));
+        
+        // Act
+        jwtAuthenticationFilter.filter(exchange, chain).block();
+        
+        // Assert
+        assertNull(forwarded.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+    
+    @Test
+    @DisplayName("Test token of a locked account is rejected at the edge")
+    public void testFilter_WhenAccountLocked() {
+        // Arrange
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/order-service/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("secret", false)));
+        
+        // Act
+        jwtAuthenticationFilter.filter(exchange, chain).block();
+        
+        // Assert
+        assertNull(forwarded.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+    
+    @Test
+    @DisplayName("Test token without an expiry is rejected at the edge")
+    public void testFilter_WhenExpirationMissing() {
+        // Arrange
+        final String token = Jwts.builder()
+                .claim("role", "ROLE_USER")
+                .setSubject("selimhorri")
+                .setIssuedAt(new Date())
+                .signWith(SignatureAlgorithm.HS256, "secret")
+                .compact();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/order-service/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        
+        // Act
+        jwtAuthenticationFilter.filter(exchange, chain).block();
+        
+        // Assert
+        assertNull(forwarded.get());
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+    }
+    
+    @Test
+    @DisplayName("Test missing token is rejected only on protected paths")
+    public void testFilter_WhenTokenMissing() {
+        // Arrange
+        MockServerWebExchange protectedExchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/order-service/api/orders"));
+        MockServerWebExchange publicExchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("/app/api/authenticate")
+                .header(JwtAuthenticationFilter.USERNAME_HEADER, "admin"));
+        
+        // Act
+        jwtAuthenticationFilter.filter(protectedExchange, chain).block();
+        jwtAuthenticationFilter.filter(publicExchange, chain).block();
+        
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, protectedExchange.getResponse().getStatusCode());
+        assertNull(forwarded.get().getRequest().getHeaders().getFirst(JwtAuthenticationFilter.USERNAME_HEADER));
+    }
+}
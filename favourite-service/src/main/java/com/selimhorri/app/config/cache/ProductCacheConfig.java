@@ -0,0 +1,36 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.dto.ProductDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(ProductCacheProperties.class)
+public class ProductCacheConfig {
+	
+	public static final String PRODUCT_CACHE = "productCache";
+	
+	@Bean
+	public LoadingCache<Integer, ProductDto> productCacheBean(final ProductCacheProperties productCacheProperties, 
+			final RestTemplate restTemplate, 
+			final MeterRegistry meterRegistry) {
+		final LoadingCache<Integer, ProductDto> productCache = Caffeine.newBuilder()
+				.maximumSize(productCacheProperties.getMaximumSize())
+				.refreshAfterWrite(productCacheProperties.getRefreshAfterWrite())
+				.expireAfterWrite(productCacheProperties.getExpireAfterWrite())
+				.recordStats()
+				.build(new ProductCacheLoader(restTemplate));
+		return CaffeineCacheMetrics.monitor(meterRegistry, productCache, PRODUCT_CACHE);
+	}
+	
+	
+	
+}
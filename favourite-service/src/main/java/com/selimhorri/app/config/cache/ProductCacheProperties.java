@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.product-cache")
+public class ProductCacheProperties {
+	
+	private long maximumSize = 10_000;
+	// older entries are still served while a background reload runs
+	private Duration refreshAfterWrite = Duration.ofMinutes(1);
+	private Duration expireAfterWrite = Duration.ofMinutes(10);
+	
+}
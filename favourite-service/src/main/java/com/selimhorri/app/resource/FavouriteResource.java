@@ -2,6 +2,7 @@ package com.selimhorri.app.resource;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Set;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.constant.AppConstant;
@@ -34,9 +36,12 @@ public class FavouriteResource {
 	private final FavouriteService favouriteService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final String after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit, 
+			@RequestParam(name = AppConstant.Expand.PARAM, required = false, defaultValue = "") final Set<String> expand) {
 		log.info("*** FavouriteDto List, controller; fetch all favourites *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
+		return ResponseEntity.ok(this.favouriteService.findAll(after, limit, expand));
 	}
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
@@ -1,13 +1,15 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Set;
 
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface FavouriteService {
 	
-	List<FavouriteDto> findAll();
+	DtoCollectionResponse<FavouriteDto> findAll(final String after, final int limit, final Set<String> expand);
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
 	FavouriteDto update(final FavouriteDto favouriteDto);
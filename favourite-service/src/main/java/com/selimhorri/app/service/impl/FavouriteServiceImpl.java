@@ -1,20 +1,32 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
 import com.selimhorri.app.service.FavouriteService;
 
@@ -27,29 +39,74 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class FavouriteServiceImpl implements FavouriteService {
 	
+	private static final String CURSOR_SEPARATOR = "/";
+	
 	private final FavouriteRepository favouriteRepository;
 	private final RestTemplate restTemplate;
+	private final LoadingCache<Integer, ProductDto> productCache;
 	
 	@Override
-	public List<FavouriteDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<FavouriteDto> findAll(final String after, final int limit, final Set<String> expand) {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		final List<Favourite> favourites = this.findRowsAfter(after, limit);
+		final List<FavouriteDto> favouriteDtos = PaginationHelper.page(favourites, limit)
 				.stream()
 					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toList());
+		final Map<Integer, UserDto> userDtos = !expand.contains(AppConstant.Expand.USER) ? Map.of() : 
+				this.fetchUsers(favouriteDtos.stream()
+						.map(FavouriteDto::getUserId)
+						.collect(Collectors.toSet()));
+		final Map<Integer, ProductDto> productDtos = !expand.contains(AppConstant.Expand.PRODUCT) ? Map.of() : 
+				this.productCache.getAll(favouriteDtos.stream()
+						.map(FavouriteDto::getProductId)
+						.collect(Collectors.toSet()));
+		return new DtoCollectionResponse<>(favouriteDtos.stream()
 					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+						f.setUserDto(userDtos.getOrDefault(f.getUserId(), f.getUserDto()));
+						f.setProductDto(productDtos.getOrDefault(f.getProductId(), f.getProductDto()));
 						return f;
 					})
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(favourites, limit, f -> f.getUserId() + CURSOR_SEPARATOR + f.getProductId() 
+						+ CURSOR_SEPARATOR + f.getLikeDate().format(DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT))));
+	}
+	
+	// cursor reads "userId/productId/likeDate", same order as the findById path
+	private List<Favourite> findRowsAfter(final String after, final int limit) {
+		if (after == null || after.isBlank()) {
+			return this.favouriteRepository.findAllByOrderByUserIdAscProductIdAscLikeDateAsc(PaginationHelper.firstRows(limit));
+		}
+		final String[] keys = after.split(CURSOR_SEPARATOR, -1);
+		if (keys.length != 3) {
+			throw new InvalidCursorException(String.format("Cursor: [%s] is not valid", after));
+		}
+		try {
+			return this.favouriteRepository.findAllAfter(Integer.parseInt(keys[0]), Integer.parseInt(keys[1]), 
+					LocalDateTime.parse(keys[2], DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT)), 
+					PaginationHelper.firstRows(limit));
+		}
+		catch (NumberFormatException | DateTimeParseException e) {
+			throw new InvalidCursorException(String.format("Cursor: [%s] is not valid", after), e);
+		}
+	}
+	
+	private Map<Integer, UserDto> fetchUsers(final Set<Integer> userIds) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+		final Map<Integer, UserDto> userDtos = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch", 
+				HttpMethod.POST, 
+				new HttpEntity<>(userIds), 
+				new ParameterizedTypeReference<Map<Integer, UserDto>>() {})
+			.getBody();
+		return (userDtos != null) ? userDtos : Map.of();
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public FavouriteDto findById(final FavouriteId favouriteId) {
 		log.info("*** FavouriteDto, service; fetch favourite by id *");
 		return this.favouriteRepository.findById(favouriteId)
@@ -58,9 +115,7 @@ public class FavouriteServiceImpl implements FavouriteService {
 					f.setUserDto(this.restTemplate
 							.getForObject(AppConstant.DiscoveredDomainsApi
 									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+					f.setProductDto(this.productCache.get(f.getProductId()));
 					return f;
 				})
 				.orElseThrow(() -> new FavouriteNotFoundException(
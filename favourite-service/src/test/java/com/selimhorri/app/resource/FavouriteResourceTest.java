@@ -0,0 +1,40 @@
+package com.selimhorri.app.resource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+import com.selimhorri.app.service.FavouriteService;
+
+@WebMvcTest(FavouriteResource.class)
+public class FavouriteResourceTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @MockBean
+    private FavouriteService favouriteService;
+    
+    @Test
+    @DisplayName("Test findAll answers a malformed cursor with a bad request")
+    public void testFindAll_WhenCursorMalformed() throws Exception {
+        // Arrange
+        when(favouriteService.findAll(eq("1/2"), anyInt(), any()))
+                .thenThrow(new InvalidCursorException("Cursor: [1/2] is not valid"));
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/favourites").param("after", "1/2"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,95 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+import com.selimhorri.app.repository.FavouriteRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class FavouriteServiceImplTest {
+    
+    private static final LocalDateTime LIKE_DATE = LocalDateTime.of(2021, 11, 30, 10, 15, 30, 123456000);
+    private static final String CURSOR = "1/2/30-11-2021__10:15:30:123456";
+    
+    @Mock
+    private FavouriteRepository favouriteRepository;
+    
+    @Mock
+    private RestTemplate restTemplate;
+    
+    @Mock
+    private LoadingCache<Integer, ProductDto> productCache;
+    
+    private FavouriteServiceImpl favouriteService;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        favouriteService = new FavouriteServiceImpl(favouriteRepository, restTemplate, productCache);
+    }
+    
+    @Test
+    @DisplayName("Test findAll returns the last row of a full page as the next cursor")
+    public void testFindAll_ReturnsNextCursor() {
+        // Arrange
+        when(favouriteRepository.findAllByOrderByUserIdAscProductIdAscLikeDateAsc(any(Pageable.class))).thenReturn(List.of(
+                Favourite.builder().userId(1).productId(2).likeDate(LIKE_DATE).build(),
+                Favourite.builder().userId(1).productId(3).likeDate(LIKE_DATE).build()));
+        
+        // Act
+        String nextCursor = favouriteService.findAll(null, 1, Set.of()).getNextCursor();
+        
+        // Assert
+        assertEquals(CURSOR, nextCursor);
+    }
+    
+    @Test
+    @DisplayName("Test findAll resumes after the keys read from the cursor")
+    public void testFindAll_ResumesAfterCursor() {
+        // Arrange
+        when(favouriteRepository.findAllAfter(eq(1), eq(2), eq(LIKE_DATE), any(Pageable.class))).thenReturn(List.of(
+                Favourite.builder().userId(1).productId(3).likeDate(LIKE_DATE).build()));
+        
+        // Act
+        int size = favouriteService.findAll(CURSOR, 1, Set.of()).getCollection().size();
+        
+        // Assert
+        assertEquals(1, size);
+    }
+    
+    @Test
+    @DisplayName("Test findAll rejects a malformed cursor without querying")
+    public void testFindAll_WhenCursorMalformed() {
+        // Act & Assert
+        for (String cursor : List.of("1/2", "1/2/30-11-2021__10:15:30:123456/4", "x/2/30-11-2021__10:15:30:123456", 
+                "1/2/2021-11-30", "1//30-11-2021__10:15:30:123456")) {
+            assertThrows(InvalidCursorException.class, () -> {
+                favouriteService.findAll(cursor, 10, Set.of());
+            });
+        }
+        
+        verify(favouriteRepository, never()).findAllAfter(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,63 @@
+package com.selimhorri.app.config.datasource;
+
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceConfig {
+	
+	public static final String PRIMARY_POOL = "primaryPool";
+	public static final String REPLICA_POOL = "replicaPool";
+	
+	@Bean
+	public DataSource dataSourceBean(final DataSourceProperties dataSourceProperties, 
+			final ReplicaProperties replicaProperties, final ObjectProvider<MeterRegistry> meterRegistry) {
+		final HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+		primary.setPoolName(PRIMARY_POOL);
+		final HikariDataSource replica = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(replicaProperties.getUrl())
+				.username(replicaProperties.getUsername())
+				.password(replicaProperties.getPassword())
+				.build();
+		replica.setPoolName(REPLICA_POOL);
+		replica.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+		replica.setReadOnly(true);
+		meterRegistry.ifAvailable(registry -> Stream.of(primary, replica)
+				.forEach(pool -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry))));
+		// the target connection is fetched on the first statement, once the transaction's read-only flag is set
+		return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+	
+	// read-only transactions are routed here; leave unset to keep every transaction on spring.datasource
+	private String url;
+	private String username;
+	private String password;
+	private int maximumPoolSize = 10;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,14 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.Cart;
 
 public interface CartRepository extends JpaRepository<Cart, Integer> {
 	
-	
+	List<Cart> findByCartIdGreaterThanOrderByCartIdAsc(final Integer cartId, final Pageable pageable);
 	
 }
@@ -1,11 +1,33 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Order;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	// orders map only their cart id, which the lazy cart proxy already holds, so carts are never joined
+	List<Order> findAllByOrderIdIn(final Collection<Integer> orderIds);
+	
+	List<Order> findByOrderIdGreaterThanOrderByOrderIdAsc(final Integer orderId, final Pageable pageable);
 	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = AppConstant.Export.FETCH_SIZE), 
+		@QueryHint(name = HINT_READONLY, value = "true")})
+	@Query("SELECT o FROM Order o ORDER BY o.orderId")
+	Stream<Order> streamAll();
 	
 }
@@ -1,5 +1,7 @@
 package com.selimhorri.app.resource;
 
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,8 +14,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.CartService;
@@ -30,9 +34,12 @@ public class CartResource {
 	private final CartService cartService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final Integer after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit, 
+			@RequestParam(name = AppConstant.Expand.PARAM, required = false, defaultValue = "") final Set<String> expand) {
 		log.info("*** CartDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAll()));
+		return ResponseEntity.ok(this.cartService.findAll(after, limit, expand));
 	}
 	
 	@GetMapping("/{cartId}")
@@ -1,10 +1,17 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,8 +19,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.OrderService;
@@ -21,6 +30,7 @@ import com.selimhorri.app.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+@Validated
 @RestController
 @RequestMapping("/api/orders")
 @Slf4j
@@ -30,9 +40,11 @@ public class OrderResource {
 	private final OrderService orderService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final Integer after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit) {
 		log.info("*** OrderDto List, controller; fetch all orders *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
+		return ResponseEntity.ok(this.orderService.findAll(after, limit));
 	}
 	
 	@GetMapping("/{orderId}")
@@ -44,6 +56,23 @@ public class OrderResource {
 		return ResponseEntity.ok(this.orderService.findById(Integer.parseInt(orderId)));
 	}
 	
+	@GetMapping("/export")
+	public void exportAll(final HttpServletResponse response) throws IOException {
+		log.info("*** OrderDto Stream, resource; export all orders *");
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		this.orderService.exportAll(response.getOutputStream());
+	}
+	
+	@PostMapping("/batch")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAllById(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Size(max = AppConstant.Pagination.MAX_LIMIT, message = "At most " + AppConstant.Pagination.MAX_LIMIT + " ids per batch") 
+			final Set<Integer> orderIds) {
+		log.info("*** OrderDto List, resource; fetch orders by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAllById(orderIds)));
+	}
+	
 	@PostMapping
 	public ResponseEntity<OrderDto> save(
 			@RequestBody 
@@ -1,13 +1,19 @@
 package com.selimhorri.app.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.List;
 
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderService {
 	
-	List<OrderDto> findAll();
+	DtoCollectionResponse<OrderDto> findAll(final Integer after, final int limit);
 	OrderDto findById(final Integer orderId);
+	List<OrderDto> findAllById(final Collection<Integer> orderIds);
+	long exportAll(final OutputStream outputStream) throws IOException;
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
 	OrderDto update(final Integer orderId, final OrderDto orderDto);
@@ -1,18 +1,25 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.repository.CartRepository;
 import com.selimhorri.app.service.CartService;
 
@@ -29,21 +36,43 @@ public class CartServiceImpl implements CartService {
 	private final RestTemplate restTemplate;
 	
 	@Override
-	public List<CartDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<CartDto> findAll(final Integer after, final int limit, final Set<String> expand) {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		final List<Cart> carts = this.cartRepository.findByCartIdGreaterThanOrderByCartIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		final List<CartDto> cartDtos = PaginationHelper.page(carts, limit)
 				.stream()
 					.map(CartMappingHelper::map)
+					.collect(Collectors.toList());
+		final Map<Integer, UserDto> userDtos = !expand.contains(AppConstant.Expand.USER) ? Map.of() : 
+				this.fetchUsers(cartDtos.stream()
+						.map(c -> c.getUserDto().getUserId())
+						.collect(Collectors.toSet()));
+		return new DtoCollectionResponse<>(cartDtos.stream()
 					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
+						c.setUserDto(userDtos.getOrDefault(c.getUserDto().getUserId(), c.getUserDto()));
 						return c;
 					})
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(carts, limit, c -> String.valueOf(c.getCartId())));
+	}
+	
+	private Map<Integer, UserDto> fetchUsers(final Set<Integer> userIds) {
+		if (userIds.isEmpty()) {
+			return Map.of();
+		}
+		final Map<Integer, UserDto> userDtos = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch", 
+				HttpMethod.POST, 
+				new HttpEntity<>(userIds), 
+				new ParameterizedTypeReference<Map<Integer, UserDto>>() {})
+			.getBody();
+		return (userDtos != null) ? userDtos : Map.of();
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public CartDto findById(final Integer cartId) {
 		log.info("*** CartDto, service; fetch cart by id *");
 		return this.cartRepository.findById(cartId)
@@ -1,15 +1,29 @@
 package com.selimhorri.app.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.OrderService;
 
@@ -23,18 +37,24 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
 	
 	@Override
-	public List<OrderDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<OrderDto> findAll(final Integer after, final int limit) {
 		log.info("*** OrderDto List, service; fetch all orders *");
-		return this.orderRepository.findAll()
+		final List<Order> orders = this.orderRepository.findByOrderIdGreaterThanOrderByOrderIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		return new DtoCollectionResponse<>(PaginationHelper.page(orders, limit)
 				.stream()
 					.map(OrderMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(orders, limit, o -> String.valueOf(o.getOrderId())));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
 		return this.orderRepository.findById(orderId)
@@ -43,6 +63,48 @@ public class OrderServiceImpl implements OrderService {
 						.format("Order with id: %d not found", orderId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public List<OrderDto> findAllById(final Collection<Integer> orderIds) {
+		log.info("*** OrderDto List, service; fetch orders by ids *");
+		if (orderIds == null || orderIds.isEmpty()) {
+			return List.of();
+		}
+		return this.orderRepository.findAllByOrderIdIn(orderIds)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public long exportAll(final OutputStream outputStream) throws IOException {
+		log.info("*** OrderDto Stream, service; export all orders *");
+		final ObjectWriter writer = this.objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		long count = 0;
+		try (final Stream<Order> orders = this.orderRepository.streamAll();
+				final JsonGenerator generator = this.objectMapper.getFactory().createGenerator(outputStream)
+						.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+						.setRootValueSeparator(null)) {
+			final Iterator<Order> iterator = orders.iterator();
+			while (iterator.hasNext()) {
+				final Order order = iterator.next();
+				writer.writeValue(generator, OrderMappingHelper.map(order));
+				generator.writeRaw('\n');
+				// keep the persistence context empty so memory stays flat however many rows are exported
+				this.entityManager.detach(order);
+				this.entityManager.detach(order.getCart());
+				// first row goes out at once so clients see progress, then one flush per fetched batch
+				if (++count % AppConstant.Export.FLUSH_INTERVAL == 1) {
+					generator.flush();
+				}
+			}
+		}
+		return count;
+	}
+	
 	@Override
 	public OrderDto save(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; save order *");
@@ -0,0 +1,16 @@
+
+CREATE TABLE carts_seq (
+	next_val BIGINT
+);
+
+INSERT INTO carts_seq
+(next_val)
+SELECT COALESCE(MAX(cart_id), 0) + 1 FROM carts;
+
+CREATE TABLE orders_seq (
+	next_val BIGINT
+);
+
+INSERT INTO orders_seq
+(next_val)
+SELECT COALESCE(MAX(order_id), 0) + 1 FROM orders;
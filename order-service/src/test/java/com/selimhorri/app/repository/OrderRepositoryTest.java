@@ -0,0 +1,92 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.helper.OrderMappingHelper;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class OrderRepositoryTest {
+    
+    @Autowired
+    private OrderRepository orderRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Test
+    @DisplayName("Test findAllByOrderIdIn loads orders with their cart id but not the cart")
+    public void testFindAllByOrderIdIn() {
+        // Arrange
+        entityManager.clear();
+        
+        // Act
+        List<Order> orders = orderRepository.findAllByOrderIdIn(Set.of(1, 2, 999));
+        
+        // Assert
+        assertEquals(Set.of(1, 2), orders.stream()
+                .map(Order::getOrderId)
+                .collect(Collectors.toSet()));
+        assertTrue(orders.stream()
+                .allMatch(o -> o.getCart().getCartId() != null && !Hibernate.isInitialized(o.getCart())));
+    }
+    
+    @Test
+    @DisplayName("Test findByOrderIdGreaterThanOrderByOrderIdAsc maps a page in one statement whatever its size")
+    public void testFindByOrderIdGreaterThanOrderByOrderIdAsc_ConstantStatements() {
+        // Arrange
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        
+        // Act & Assert
+        for (int limit : new int[] {1, 4}) {
+            entityManager.clear();
+            statistics.clear();
+            List<OrderDto> orders = orderRepository.findByOrderIdGreaterThanOrderByOrderIdAsc(0, PageRequest.of(0, limit))
+                    .stream()
+                    .map(OrderMappingHelper::map)
+                    .collect(Collectors.toList());
+            assertEquals(limit, orders.size());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test streamAll yields every order in id order with its cart id")
+    public void testStreamAll() {
+        // Arrange
+        entityManager.clear();
+        
+        // Act
+        List<Order> orders;
+        try (Stream<Order> stream = orderRepository.streamAll()) {
+            orders = stream.collect(Collectors.toList());
+        }
+        
+        // Assert
+        assertEquals(List.of(1, 2, 3, 4), orders.stream()
+                .map(Order::getOrderId)
+                .collect(Collectors.toList()));
+        assertTrue(orders.stream()
+                .allMatch(o -> o.getCart().getCartId() != null));
+    }
+}
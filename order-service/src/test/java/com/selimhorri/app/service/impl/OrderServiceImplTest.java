@@ -0,0 +1,88 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.config.mapper.MapperConfig;
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.repository.OrderRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderServiceImplTest {
+    
+    @Mock
+    private OrderRepository orderRepository;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    private ObjectMapper objectMapper;
+    private OrderServiceImpl orderService;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        objectMapper = new MapperConfig().objectMapperBean();
+        orderService = new OrderServiceImpl(orderRepository, entityManager, objectMapper);
+    }
+    
+    @Test
+    @DisplayName("Test exportAll writes one compact JSON document per line and detaches each order")
+    public void testExportAll() throws IOException {
+        // Arrange
+        Order first = Order.builder().orderId(1).orderDesc("first").orderFee(10.0)
+                .cart(Cart.builder().cartId(1).build()).build();
+        Order second = Order.builder().orderId(2).orderDesc("second").orderFee(20.0)
+                .cart(Cart.builder().cartId(2).build()).build();
+        when(orderRepository.streamAll()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        
+        // Act
+        long count = orderService.exportAll(outputStream);
+        
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(2, count);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        JsonNode firstLine = objectMapper.readTree(lines[0]);
+        assertEquals(1, firstLine.get("orderId").asInt());
+        assertEquals(1, firstLine.get("cart").get("cartId").asInt());
+        assertEquals("second", objectMapper.readTree(lines[1]).get("orderDesc").asText());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+    
+    @Test
+    @DisplayName("Test exportAll writes nothing when there are no orders")
+    public void testExportAll_WhenNoOrders() throws IOException {
+        // Arrange
+        when(orderRepository.streamAll()).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        
+        // Act
+        long count = orderService.exportAll(outputStream);
+        
+        // Assert
+        assertEquals(0, count);
+        assertEquals(0, outputStream.size());
+    }
+}
@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.http-client")
+public class ClientProperties {
+	
+	private int maxTotal = 100;
+	private int maxPerRoute = 20;
+	// keyed by downstream instance "host:port"
+	private Map<String, Integer> maxPerHost = new HashMap<>();
+	private Duration connectTimeout = Duration.ofSeconds(2);
+	private Duration readTimeout = Duration.ofSeconds(5);
+	private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+	private Duration idleTimeout = Duration.ofSeconds(30);
+	private Duration timeToLive = Duration.ofMinutes(5);
+	private Duration validateAfterInactivity = Duration.ofSeconds(2);
+	
+}
@@ -1,12 +1,14 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Set;
 
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface PaymentService {
 	
-	List<PaymentDto> findAll();
+	DtoCollectionResponse<PaymentDto> findAll(final Integer after, final int limit, final Set<String> expand);
 	PaymentDto findById(final Integer paymentId);
 	PaymentDto save(final PaymentDto paymentDto);
 	PaymentDto update(final PaymentDto paymentDto);
@@ -1,17 +1,25 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.helper.PaymentMappingHelper;
 import com.selimhorri.app.repository.PaymentRepository;
 import com.selimhorri.app.service.PaymentService;
@@ -29,21 +37,47 @@ public class PaymentServiceImpl implements PaymentService {
 	private final RestTemplate restTemplate;
 	
 	@Override
-	public List<PaymentDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<PaymentDto> findAll(final Integer after, final int limit, final Set<String> expand) {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		final List<Payment> payments = this.paymentRepository.findByPaymentIdGreaterThanOrderByPaymentIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		final List<PaymentDto> paymentDtos = PaginationHelper.page(payments, limit)
 				.stream()
 					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toList());
+		final Map<Integer, OrderDto> orderDtos = !expand.contains(AppConstant.Expand.ORDER) ? Map.of() : 
+				this.fetchOrders(paymentDtos.stream()
+						.map(p -> p.getOrderDto().getOrderId())
+						.collect(Collectors.toSet()));
+		return new DtoCollectionResponse<>(paymentDtos.stream()
 					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
+						p.setOrderDto(orderDtos.getOrDefault(p.getOrderDto().getOrderId(), p.getOrderDto()));
 						return p;
 					})
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(payments, limit, p -> String.valueOf(p.getPaymentId())));
+	}
+	
+	private Map<Integer, OrderDto> fetchOrders(final Set<Integer> orderIds) {
+		if (orderIds.isEmpty()) {
+			return Map.of();
+		}
+		final DtoCollectionResponse<OrderDto> response = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/batch", 
+				HttpMethod.POST, 
+				new HttpEntity<>(orderIds), 
+				new ParameterizedTypeReference<DtoCollectionResponse<OrderDto>>() {})
+			.getBody();
+		if (response == null || response.getCollection() == null) {
+			return Map.of();
+		}
+		return response.getCollection().stream()
+				.collect(Collectors.toMap(OrderDto::getOrderId, Function.identity(), (first, second) -> first));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public PaymentDto findById(final Integer paymentId) {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
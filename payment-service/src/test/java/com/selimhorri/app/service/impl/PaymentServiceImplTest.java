@@ -0,0 +1,96 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
+import com.selimhorri.app.domain.PaymentStatus;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.PaymentRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentServiceImplTest {
+    
+    private static final String ORDER_BATCH_URL = AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/batch";
+    
+    @Mock
+    private PaymentRepository paymentRepository;
+    
+    @Mock
+    private RestTemplate restTemplate;
+    
+    @InjectMocks
+    private PaymentServiceImpl paymentService;
+    
+    @Test
+    @DisplayName("Test findAll enriches all payments with a single order lookup")
+    @SuppressWarnings("unchecked")
+    public void testFindAll_FetchesOrdersInOneCall() {
+        // Arrange
+        when(paymentRepository.findByPaymentIdGreaterThanOrderByPaymentIdAsc(eq(0), any(Pageable.class))).thenReturn(List.of(
+                Payment.builder().paymentId(1).orderId(1).isPayed(true).paymentStatus(PaymentStatus.COMPLETED).build(),
+                Payment.builder().paymentId(2).orderId(2).isPayed(false).paymentStatus(PaymentStatus.NOT_STARTED).build()));
+        when(restTemplate.exchange(eq(ORDER_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), 
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                        OrderDto.builder().orderId(1).orderDesc("first").build(),
+                        OrderDto.builder().orderId(2).orderDesc("second").build()))));
+        ArgumentCaptor<HttpEntity<Set<Integer>>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        
+        // Act
+        List<PaymentDto> result = List.copyOf(paymentService.findAll(null, 100, Set.of("order")).getCollection());
+        
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals("first", result.get(0).getOrderDto().getOrderDesc());
+        assertEquals("second", result.get(1).getOrderDto().getOrderDesc());
+        verify(restTemplate, times(1)).exchange(eq(ORDER_BATCH_URL), eq(HttpMethod.POST), captor.capture(), 
+                any(ParameterizedTypeReference.class));
+        verifyNoMoreInteractions(restTemplate);
+        assertEquals(Set.of(1, 2), captor.getValue().getBody());
+    }
+    
+    @Test
+    @DisplayName("Test findAll without expand returns ids only and makes no remote call")
+    public void testFindAll_WithoutExpand() {
+        // Arrange
+        when(paymentRepository.findByPaymentIdGreaterThanOrderByPaymentIdAsc(eq(0), any(Pageable.class))).thenReturn(List.of(
+                Payment.builder().paymentId(1).orderId(1).isPayed(true).paymentStatus(PaymentStatus.COMPLETED).build()));
+        
+        // Act
+        List<PaymentDto> result = List.copyOf(paymentService.findAll(null, 100, Set.of()).getCollection());
+        
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getOrderDto().getOrderId());
+        assertNull(result.get(0).getOrderDto().getOrderDesc());
+        verifyNoInteractions(restTemplate);
+    }
+}
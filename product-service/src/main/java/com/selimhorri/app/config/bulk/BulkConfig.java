@@ -0,0 +1,32 @@
+package com.selimhorri.app.config.bulk;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(BulkProperties.class)
+public class BulkConfig {
+	
+	@Bean
+	public TransactionTemplate bulkTransactionTemplateBean(final PlatformTransactionManager transactionManager) {
+		final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+		return transactionTemplate;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
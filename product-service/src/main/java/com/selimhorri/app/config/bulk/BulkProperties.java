@@ -0,0 +1,24 @@
+package com.selimhorri.app.config.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.bulk")
+public class BulkProperties {
+	
+	// rows per transaction, keep in line with hibernate.jdbc.batch_size
+	private int chunkSize = 500;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,22 @@
+package com.selimhorri.app.config.category;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CategoryTreeProperties.class)
+public class CategoryTreeConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
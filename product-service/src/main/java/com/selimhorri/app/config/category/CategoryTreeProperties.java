@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.category;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.category-tree")
+public class CategoryTreeProperties {
+	
+	// a write on another node only reaches this node's snapshot once it ages out, same as the Category cache region
+	private Duration maxAge = Duration.ofHours(1);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.datasource;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+	
+	public enum Route {
+		PRIMARY, REPLICA
+	}
+	
+	public ReadWriteRoutingDataSource(final DataSource primary, final DataSource replica) {
+		this.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+		this.setDefaultTargetDataSource(primary);
+		this.afterPropertiesSet();
+	}
+	
+	public static boolean isReplicaRead() {
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+	}
+	
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return (isReplicaRead()) ? Route.REPLICA : Route.PRIMARY;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
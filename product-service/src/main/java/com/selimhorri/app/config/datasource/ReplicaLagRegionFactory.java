@@ -0,0 +1,138 @@
+package com.selimhorri.app.config.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+// a write evicts its cache entries on commit, but the replica may still serve the rows from before it; for the
+// max lag after an eviction, loads on the replica leave that key uncached, so only a primary load refills it.
+// every other load fills the caches as usual. cached queries are guarded through their region, which the
+// category writes evict as a whole
+public class ReplicaLagRegionFactory extends JCacheRegionFactory {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private final long maxLagNanos;
+	
+	public ReplicaLagRegionFactory(final Duration maxLag) {
+		this.maxLagNanos = maxLag.toNanos();
+	}
+	
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(final DomainDataRegionConfig regionConfig, 
+			final DomainDataRegionBuildingContext buildingContext) {
+		return new ReplicaLagStorageAccess(super.createDomainDataStorageAccess(regionConfig, buildingContext), 
+				this.maxLagNanos);
+	}
+	
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(final String regionName, 
+			final SessionFactoryImplementor sessionFactory) {
+		return new ReplicaLagStorageAccess(super.createQueryResultsRegionStorageAccess(regionName, sessionFactory), 
+				this.maxLagNanos);
+	}
+	
+	static class ReplicaLagStorageAccess implements DomainDataStorageAccess {
+		
+		private final StorageAccess storageAccess;
+		private final long maxLagNanos;
+		private final Map<Object, Long> evictedKeys = new ConcurrentHashMap<>();
+		private volatile long regionEvictedAt;
+		
+		ReplicaLagStorageAccess(final StorageAccess storageAccess, final long maxLagNanos) {
+			this.storageAccess = storageAccess;
+			this.maxLagNanos = maxLagNanos;
+			this.regionEvictedAt = System.nanoTime() - maxLagNanos;
+		}
+		
+		@Override
+		public Object getFromCache(final Object key, final SharedSessionContractImplementor session) {
+			return this.storageAccess.getFromCache(key, session);
+		}
+		
+		@Override
+		public void putIntoCache(final Object key, final Object value, final SharedSessionContractImplementor session) {
+			if (ReadWriteRoutingDataSource.isReplicaRead() && this.isLagging(key)) {
+				return;
+			}
+			this.storageAccess.putIntoCache(key, value, session);
+		}
+		
+		@Override
+		public void removeFromCache(final Object key, final SharedSessionContractImplementor session) {
+			this.storageAccess.removeFromCache(key, session);
+			this.evicted(key);
+		}
+		
+		@Override
+		public void clearCache(final SharedSessionContractImplementor session) {
+			this.storageAccess.clearCache(session);
+			this.regionEvicted();
+		}
+		
+		@Override
+		public boolean contains(final Object key) {
+			return this.storageAccess.contains(key);
+		}
+		
+		@Override
+		public void evictData() {
+			this.storageAccess.evictData();
+			this.regionEvicted();
+		}
+		
+		@Override
+		public void evictData(final Object key) {
+			this.storageAccess.evictData(key);
+			this.evicted(key);
+		}
+		
+		@Override
+		public void release() {
+			this.storageAccess.release();
+		}
+		
+		private boolean isLagging(final Object key) {
+			final long now = System.nanoTime();
+			if (now - this.regionEvictedAt < this.maxLagNanos) {
+				return true;
+			}
+			final Long evictedAt = this.evictedKeys.get(key);
+			return evictedAt != null && now - evictedAt < this.maxLagNanos;
+		}
+		
+		private void evicted(final Object key) {
+			final long now = System.nanoTime();
+			// keys older than the max lag no longer matter, so the map only ever holds the last few evictions
+			this.evictedKeys.values().removeIf(evictedAt -> now - evictedAt >= this.maxLagNanos);
+			this.evictedKeys.put(key, now);
+		}
+		
+		private void regionEvicted() {
+			this.regionEvictedAt = System.nanoTime();
+			this.evictedKeys.clear();
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
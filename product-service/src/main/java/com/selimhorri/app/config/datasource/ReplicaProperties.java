@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+	
+	// read-only transactions are routed here; leave unset to keep every transaction on spring.datasource
+	private String url;
+	private String username;
+	private String password;
+	private int maximumPoolSize = 10;
+	// how long a cache entry evicted by a write is not refilled from the replica, since it may still lag that write
+	private Duration maxLag = Duration.ofSeconds(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
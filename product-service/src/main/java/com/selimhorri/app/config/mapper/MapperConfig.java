@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 @Configuration
 public class MapperConfig {
@@ -13,6 +14,7 @@ public class MapperConfig {
 	@Bean
 	public ObjectMapper objectMapperBean() {
 		return new JsonMapper()
+				.registerModule(new JavaTimeModule())
 				.enable(SerializationFeature.INDENT_OUTPUT);
 	}
 	
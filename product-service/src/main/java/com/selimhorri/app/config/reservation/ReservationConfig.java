@@ -0,0 +1,24 @@
+package com.selimhorri.app.config.reservation;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ReservationProperties.class)
+public class ReservationConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.reservation;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.reservation")
+public class ReservationProperties {
+	
+	// how long held stock waits for a confirm before the expiry sweep returns it
+	private Duration holdTimeout = Duration.ofMinutes(10);
+	private Duration expiryInterval = Duration.ofSeconds(30);
+	// holds expired per transaction
+	private int expiryBatchSize = 500;
+	
+}
+
+
+
+
+
+
+
+
+
+
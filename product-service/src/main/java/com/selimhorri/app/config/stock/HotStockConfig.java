@@ -0,0 +1,22 @@
+package com.selimhorri.app.config.stock;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HotStockProperties.class)
+public class HotStockConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.config.stock;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.hot-stock")
+public class HotStockProperties {
+	
+	// off by default, flagged products are then reserved straight from their rows like any other
+	private boolean enabled = false;
+	private Set<Integer> productIds = new HashSet<>();
+	// counter cells per product
+	private int stripes = Runtime.getRuntime().availableProcessors();
+	// units a node keeps leased per flagged product, topped up every settle and trimmed above twice this size
+	private int leaseSize = 500;
+	private Duration settleInterval = Duration.ofSeconds(1);
+	private String journalPath = "data/hot-stock.journal";
+	
+}
+
+
+
+
+
+
+
+
+
+
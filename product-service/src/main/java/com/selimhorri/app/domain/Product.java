@@ -2,6 +2,7 @@ package com.selimhorri.app.domain;
 
 import java.io.Serializable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
@@ -12,6 +13,11 @@ import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +26,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(callSuper = true, exclude = {"category"})
@@ -30,7 +38,12 @@ public final class Product extends AbstractMappedEntity implements Serializable
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+	@GenericGenerator(name = "products_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+		@Parameter(name = "sequence_name", value = "products_seq"), 
+		@Parameter(name = "increment_size", value = "50"), 
+		@Parameter(name = "optimizer", value = "pooled-lo"), 
+		@Parameter(name = "force_table_use", value = "true")})
 	@Column(name = "product_id", unique = true, nullable = false, updatable = false)
 	private Integer productId;
 	
@@ -46,10 +59,11 @@ public final class Product extends AbstractMappedEntity implements Serializable
 	@Column(name = "price_unit", columnDefinition = "decimal")
 	private Double priceUnit;
 	
-	@Column(name = "quantity")
+	// stock only moves through InventoryRepository, an entity write would undo concurrent reservations
+	@Column(name = "quantity", updatable = false)
 	private Integer quantity;
 	
-	@ManyToOne(fetch = FetchType.EAGER)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "category_id")
 	private Category category;
 	
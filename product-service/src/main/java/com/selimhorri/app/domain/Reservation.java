@@ -0,0 +1,74 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "inventory_reservations")
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Data
+@Builder
+public class Reservation extends AbstractMappedEntity implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "inventory_reservations_seq")
+	@GenericGenerator(name = "inventory_reservations_seq", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+		@Parameter(name = "sequence_name", value = "inventory_reservations_seq"), 
+		@Parameter(name = "increment_size", value = "50"), 
+		@Parameter(name = "optimizer", value = "pooled-lo"), 
+		@Parameter(name = "force_table_use", value = "true")})
+	@Column(name = "reservation_id", unique = true, nullable = false, updatable = false)
+	private Integer reservationId;
+	
+	@Column(name = "order_id", nullable = false, updatable = false)
+	private Integer orderId;
+	
+	// plain id rather than an association, stock is only ever touched through conditional updates
+	@Column(name = "product_id", nullable = false, updatable = false)
+	private Integer productId;
+	
+	@Column(name = "quantity", nullable = false, updatable = false)
+	private Integer quantity;
+	
+	@Enumerated(EnumType.STRING)
+	@Column(name = "reservation_status", nullable = false)
+	private ReservationStatus reservationStatus;
+	
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+	
+	// status changes race with the expiry sweep, the version check lets exactly one of them win
+	@Version
+	@Column(name = "version", nullable = false)
+	private Integer version;
+	
+}
+
+
+
+
+
+
@@ -0,0 +1,23 @@
+package com.selimhorri.app.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum ReservationStatus {
+	
+	HELD("held"),
+	CONFIRMED("confirmed"),
+	RELEASED("released"),
+	EXPIRED("expired");
+	
+	private final String status;
+	
+}
+
+
+
+
+
+
@@ -0,0 +1,37 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.selimhorri.app.domain.ReservationStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ReservationDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	private Integer reservationId;
+	private Integer orderId;
+	private Integer productId;
+	private Integer quantity;
+	private ReservationStatus reservationStatus;
+	
+	@JsonFormat(shape = Shape.STRING)
+	private Instant expiresAt;
+	
+}
+
+
+
+
+
+
@@ -0,0 +1,33 @@
+package com.selimhorri.app.dto.request;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ProductFilter implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	private Integer categoryId;
+	private Double minPrice;
+	private Double maxPrice;
+	private Boolean inStock;
+	private String titlePrefix;
+	
+}
+
+
+
+
+
+
+
+
+
+
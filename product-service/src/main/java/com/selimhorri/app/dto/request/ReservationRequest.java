@@ -0,0 +1,35 @@
+package com.selimhorri.app.dto.request;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class ReservationRequest implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@NotNull(message = "Order id must not be NULL")
+	private Integer orderId;
+	
+	@NotEmpty(message = "Reservation lines must not be empty")
+	private List<@Valid ReservationLine> lines;
+	
+}
+
+
+
+
+
+
@@ -0,0 +1,29 @@
+package com.selimhorri.app.dto.request;
+
+import java.io.Serializable;
+
+import javax.validation.constraints.NotNull;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class StockAdjustment implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@NotNull(message = "Delta must not be NULL")
+	private Integer delta;
+	
+}
+
+
+
+
+
+
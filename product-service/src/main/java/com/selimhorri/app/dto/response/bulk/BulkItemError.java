@@ -0,0 +1,42 @@
+package com.selimhorri.app.dto.response.bulk;
+
+import java.io.Serializable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BulkItemError implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	// position of the item in the request body
+	private int index;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Integer productId;
+	
+	@JsonInclude(Include.NON_NULL)
+	private String sku;
+	
+	private String message;
+	
+}
+
+
+
+
+
+
+
+
+
+
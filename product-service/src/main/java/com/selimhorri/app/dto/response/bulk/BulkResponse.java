@@ -0,0 +1,32 @@
+package com.selimhorri.app.dto.response.bulk;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BulkResponse implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	private int succeeded;
+	private int failed;
+	private List<BulkItemError> errors;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -2,6 +2,9 @@ package com.selimhorri.app.dto.response.collection;
 
 import java.util.Collection;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,6 +18,14 @@ public class DtoCollectionResponse<T> {
 	
 	private Collection<T> collection;
 	
+	// keyset cursor of the last row (next page number for searches), absent on the last page
+	@JsonInclude(Include.NON_NULL)
+	private String nextCursor;
+	
+	public DtoCollectionResponse(final Collection<T> collection) {
+		this.collection = collection;
+	}
+	
 }
 
 
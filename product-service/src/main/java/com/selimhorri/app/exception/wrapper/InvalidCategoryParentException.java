@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class InvalidCategoryParentException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidCategoryParentException() {
+		super();
+	}
+	
+	public InvalidCategoryParentException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public InvalidCategoryParentException(String message) {
+		super(message);
+	}
+	
+	public InvalidCategoryParentException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class InvalidReservationStateException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidReservationStateException() {
+		super();
+	}
+	
+	public InvalidReservationStateException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public InvalidReservationStateException(String message) {
+		super(message);
+	}
+	
+	public InvalidReservationStateException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,62 @@
+package com.selimhorri.app.helper;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryDto;
+
+public interface CategoryTreeHelper {
+	
+	public static final String PATH_SEPARATOR = "/";
+	
+	public static String path(final Category parentCategory, final Integer categoryId) {
+		return ((parentCategory != null) ? parentCategory.getCategoryPath() : PATH_SEPARATOR) 
+				+ categoryId + PATH_SEPARATOR;
+	}
+	
+	public static String parentPath(final String categoryPath) {
+		return categoryPath.substring(0, categoryPath.lastIndexOf(PATH_SEPARATOR, categoryPath.length() - 2) + 1);
+	}
+	
+	// children are grouped by their parent's path, so the tree is assembled without touching parentCategory
+	public static List<CategoryDto> build(final List<Category> categories) {
+		final Map<String, List<Category>> childrenByParentPath = categories.stream()
+				.collect(Collectors.groupingBy(c -> parentPath(c.getCategoryPath()), LinkedHashMap::new, Collectors.toList()));
+		return childrenByParentPath.getOrDefault(PATH_SEPARATOR, List.of())
+				.stream()
+					.map(c -> node(c, childrenByParentPath))
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	private static CategoryDto node(final Category category, final Map<String, List<Category>> childrenByParentPath) {
+		return CategoryDto.builder()
+				.categoryId(category.getCategoryId())
+				.categoryTitle(category.getCategoryTitle())
+				.imageUrl(category.getImageUrl())
+				.subCategoriesDtos(childrenByParentPath
+						.getOrDefault(category.getCategoryPath(), List.of())
+						.stream()
+							.map(c -> node(c, childrenByParentPath))
+							.collect(Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new), 
+									Collections::unmodifiableSet)))
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
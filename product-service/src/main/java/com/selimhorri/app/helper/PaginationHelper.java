@@ -0,0 +1,42 @@
+package com.selimhorri.app.helper;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.selimhorri.app.constant.AppConstant;
+
+public interface PaginationHelper {
+	
+	// one row past the limit is read to tell whether another page follows
+	public static Pageable firstRows(final int limit) {
+		return PageRequest.of(0, clamp(limit) + 1);
+	}
+	
+	public static <T> List<T> page(final List<T> rows, final int limit) {
+		return (rows.size() > clamp(limit)) ? rows.subList(0, clamp(limit)) : rows;
+	}
+	
+	public static <T> String nextCursor(final List<T> rows, final int limit, final Function<T, String> cursor) {
+		return (rows.size() > clamp(limit)) ? cursor.apply(rows.get(clamp(limit) - 1)) : null;
+	}
+	
+	private static int clamp(final int limit) {
+		return Math.max(1, Math.min(limit, AppConstant.Pagination.MAX_LIMIT));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,56 @@
+package com.selimhorri.app.helper;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.request.ProductFilter;
+
+public interface ProductSpecificationHelper {
+	
+	public static final char LIKE_ESCAPE = '\\';
+	
+	// only the criteria actually given become predicates, so each one can use its index
+	public static Specification<Product> of(final ProductFilter filter) {
+		Specification<Product> specification = Specification.where(null);
+		if (filter.getCategoryId() != null) {
+			specification = specification.and((root, query, cb) -> 
+					cb.equal(root.get("category").get("categoryId"), filter.getCategoryId()));
+		}
+		if (filter.getMinPrice() != null) {
+			specification = specification.and((root, query, cb) -> 
+					cb.greaterThanOrEqualTo(root.get("priceUnit"), filter.getMinPrice()));
+		}
+		if (filter.getMaxPrice() != null) {
+			specification = specification.and((root, query, cb) -> 
+					cb.lessThanOrEqualTo(root.get("priceUnit"), filter.getMaxPrice()));
+		}
+		if (Boolean.TRUE.equals(filter.getInStock())) {
+			specification = specification.and((root, query, cb) -> 
+					cb.greaterThan(root.get("quantity"), 0));
+		}
+		if (filter.getTitlePrefix() != null && !filter.getTitlePrefix().isBlank()) {
+			specification = specification.and((root, query, cb) -> 
+					cb.like(root.get("productTitle"), escapeLike(filter.getTitlePrefix()) + "%", LIKE_ESCAPE));
+		}
+		return specification;
+	}
+	
+	private static String escapeLike(final String value) {
+		return value.replace("\\", "\\\\")
+				.replace("%", "\\%")
+				.replace("_", "\\_");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,31 @@
+package com.selimhorri.app.helper;
+
+import com.selimhorri.app.domain.Reservation;
+import com.selimhorri.app.dto.ReservationDto;
+
+public interface ReservationMappingHelper {
+	
+	public static ReservationDto map(final Reservation reservation) {
+		return ReservationDto.builder()
+				.reservationId(reservation.getReservationId())
+				.orderId(reservation.getOrderId())
+				.productId(reservation.getProductId())
+				.quantity(reservation.getQuantity())
+				.reservationStatus(reservation.getReservationStatus())
+				.expiresAt(reservation.getExpiresAt())
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,31 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
+import java.util.List;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Category;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+	List<Category> findByCategoryIdGreaterThanOrderByCategoryIdAsc(final Integer categoryId, final Pageable pageable);
+	
+	List<Category> findAllByOrderByCategoryIdAsc();
 	
+	// moves a whole subtree: every path under oldPath is rewritten onto newPath
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE Category c SET c.categoryPath = CONCAT(:newPath, SUBSTRING(c.categoryPath, LENGTH(:oldPath) + 1)) "
+			+ "WHERE c.categoryPath LIKE CONCAT(:oldPath, '%')")
+	int updateCategoryPathPrefix(@Param("oldPath") final String oldPath, @Param("newPath") final String newPath);
 	
 }
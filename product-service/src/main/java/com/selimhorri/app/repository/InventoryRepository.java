@@ -0,0 +1,99 @@
+package com.selimhorri.app.repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+// plain JDBC on purpose, a JPQL bulk update would invalidate the whole Product cache region on every reservation
+@Repository
+@RequiredArgsConstructor
+public class InventoryRepository {
+	
+	private static final String DECREMENT_STOCK = 
+			"UPDATE products SET quantity = quantity - ? WHERE product_id = ? AND quantity - leased_quantity >= ?";
+	private static final String INCREMENT_STOCK = 
+			"UPDATE products SET quantity = quantity + ? WHERE product_id = ?";
+	private static final String ADJUST_STOCK = 
+			"UPDATE products SET quantity = quantity + ? WHERE product_id = ? AND quantity - leased_quantity + ? >= 0";
+	private static final String LEASE_STOCK = 
+			"UPDATE products SET leased_quantity = leased_quantity + ? WHERE product_id = ? AND quantity - leased_quantity >= ?";
+	private static final String RETURN_STOCK = 
+			"UPDATE products SET leased_quantity = leased_quantity - ? WHERE product_id = ?";
+	private static final String SETTLE_STOCK = 
+			"UPDATE products SET quantity = quantity - ?, leased_quantity = leased_quantity - ? WHERE product_id = ?";
+	private static final String FIND_AVAILABLE = 
+			"SELECT product_id, quantity - leased_quantity AS available FROM products WHERE product_id IN (%s)";
+	
+	private final JdbcTemplate jdbcTemplate;
+	
+	// one batch for all lines, rows are locked in product id order so multi-line callers never deadlock;
+	// a zero count means the product is unknown or its stock could not cover the line
+	public int[] decrementAll(final SortedMap<Integer, Integer> quantities) {
+		return this.jdbcTemplate.batchUpdate(DECREMENT_STOCK, quantities.entrySet().stream()
+				.map(e -> new Object[] {e.getValue(), e.getKey(), e.getValue()})
+				.collect(Collectors.toList()));
+	}
+	
+	// a zero count means the product is unknown or the delta would take more than its unleased stock
+	public int adjust(final Integer productId, final int delta) {
+		return this.jdbcTemplate.update(ADJUST_STOCK, delta, productId, delta);
+	}
+	
+	public int[] incrementAll(final SortedMap<Integer, Integer> quantities) {
+		return this.jdbcTemplate.batchUpdate(INCREMENT_STOCK, quantities.entrySet().stream()
+				.map(e -> new Object[] {e.getValue(), e.getKey()})
+				.collect(Collectors.toList()));
+	}
+	
+	// leased units stay in quantity, so product reads and in-stock searches keep counting them, but no other
+	// node and no row reservation can take them; a zero count means the product is unknown or short
+	public int[] leaseAll(final SortedMap<Integer, Integer> quantities) {
+		return this.jdbcTemplate.batchUpdate(LEASE_STOCK, quantities.entrySet().stream()
+				.map(e -> new Object[] {e.getValue(), e.getKey(), e.getValue()})
+				.collect(Collectors.toList()));
+	}
+	
+	public int[] returnAll(final SortedMap<Integer, Integer> quantities) {
+		return this.jdbcTemplate.batchUpdate(RETURN_STOCK, quantities.entrySet().stream()
+				.map(e -> new Object[] {e.getValue(), e.getKey()})
+				.collect(Collectors.toList()));
+	}
+	
+	// units a node sold out of its lease leave the total and the lease together; a negative delta puts back
+	// units released after their sale was settled
+	public int[] settleAll(final SortedMap<Integer, Integer> quantities) {
+		return this.jdbcTemplate.batchUpdate(SETTLE_STOCK, quantities.entrySet().stream()
+				.map(e -> new Object[] {e.getValue(), e.getValue(), e.getKey()})
+				.collect(Collectors.toList()));
+	}
+	
+	public Map<Integer, Integer> findAvailable(final Collection<Integer> productIds) {
+		final Map<Integer, Integer> available = new HashMap<>();
+		this.jdbcTemplate.query(String.format(FIND_AVAILABLE, String.join(", ", Collections.nCopies(productIds.size(), "?"))), 
+				rs -> {
+					available.put(rs.getInt("product_id"), rs.getInt("available"));
+				}, productIds.toArray());
+		return available;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,19 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import com.selimhorri.app.domain.Product;
 
-public interface ProductRepository extends JpaRepository<Product, Integer> {
+public interface ProductRepository extends JpaRepository<Product, Integer>, JpaSpecificationExecutor<Product> {
 	
+	// lazy categories resolve from the second-level cache, or in one batch when cold, so they are not joined in
+	List<Product> findAllByProductIdIn(final Collection<Integer> productIds);
 	
+	List<Product> findByProductIdGreaterThanOrderByProductIdAsc(final Integer productId, final Pageable pageable);
 	
 }
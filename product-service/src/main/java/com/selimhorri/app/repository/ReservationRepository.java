@@ -0,0 +1,21 @@
+package com.selimhorri.app.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.selimhorri.app.domain.Reservation;
+import com.selimhorri.app.domain.ReservationStatus;
+
+public interface ReservationRepository extends JpaRepository<Reservation, Integer> {
+	
+	boolean existsByOrderId(final Integer orderId);
+	
+	List<Reservation> findAllByOrderIdOrderByProductIdAsc(final Integer orderId);
+	
+	List<Reservation> findByReservationStatusAndExpiresAtBeforeOrderByReservationIdAsc(
+			final ReservationStatus reservationStatus, final Instant expiresAt, final Pageable pageable);
+	
+}
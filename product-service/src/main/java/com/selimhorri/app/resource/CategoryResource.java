@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.CategoryService;
@@ -30,9 +32,17 @@ public class CategoryResource {
 	private final CategoryService categoryService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final Integer after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit) {
 		log.info("*** CategoryDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+		return ResponseEntity.ok(this.categoryService.findAll(after, limit));
+	}
+	
+	@GetMapping("/tree")
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findTree() {
+		log.info("*** CategoryDto List, controller; fetch category tree *");
+		return ResponseEntity.ok(this.categoryService.findTree());
 	}
 	
 	@GetMapping("/{categoryId}")
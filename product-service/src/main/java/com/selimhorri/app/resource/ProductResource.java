@@ -1,10 +1,17 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,15 +19,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.request.ProductFilter;
+import com.selimhorri.app.dto.request.StockAdjustment;
+import com.selimhorri.app.dto.response.bulk.BulkResponse;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+@Validated
 @RestController
 @RequestMapping("/api/products")
 @Slf4j
@@ -30,9 +43,19 @@ public class ProductResource {
 	private final ProductService productService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final Integer after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit) {
 		log.info("*** ProductDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+		return ResponseEntity.ok(this.productService.findAll(after, limit));
+	}
+	
+	@GetMapping("/search")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> search(
+			final ProductFilter filter, 
+			@PageableDefault(size = 20) final Pageable pageable) {
+		log.info("*** ProductDto List, resource; search products *");
+		return ResponseEntity.ok(this.productService.search(filter, pageable));
 	}
 	
 	@GetMapping("/{productId}")
@@ -44,6 +67,16 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.findById(Integer.parseInt(productId)));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAllById(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Size(max = AppConstant.Pagination.MAX_LIMIT, message = "At most " + AppConstant.Pagination.MAX_LIMIT + " ids per batch") 
+			final Set<Integer> productIds) {
+		log.info("*** ProductDto List, resource; fetch products by ids *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAllById(productIds)));
+	}
+	
 	@PostMapping
 	public ResponseEntity<ProductDto> save(
 			@RequestBody 
@@ -62,6 +95,24 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.update(productDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<BulkResponse> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			final List<ProductDto> productDtos) {
+		log.info("*** BulkResponse, resource; save products in bulk *");
+		return ResponseEntity.ok(this.productService.saveAll(productDtos));
+	}
+	
+	@PutMapping("/bulk")
+	public ResponseEntity<BulkResponse> updateAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			final List<ProductDto> productDtos) {
+		log.info("*** BulkResponse, resource; update products in bulk *");
+		return ResponseEntity.ok(this.productService.updateAll(productDtos));
+	}
+	
 	@PutMapping("/{productId}")
 	public ResponseEntity<ProductDto> update(
 			@PathVariable("productId")
@@ -74,6 +125,18 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.update(Integer.parseInt(productId), productDto));
 	}
 	
+	@PutMapping("/{productId}/stock")
+	public ResponseEntity<ProductDto> adjustStock(
+			@PathVariable("productId")
+			@NotBlank(message = "Input must not be blank!")
+			@Valid final String productId,
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final StockAdjustment stockAdjustment) {
+		log.info("*** ProductDto, resource; adjust stock of product *");
+		return ResponseEntity.ok(this.productService.adjustStock(Integer.parseInt(productId), stockAdjustment.getDelta()));
+	}
+	
 	@DeleteMapping("/{productId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("productId") final String productId) {
 		log.info("*** Boolean, resource; delete product by id *");
@@ -0,0 +1,80 @@
+package com.selimhorri.app.resource;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.dto.ReservationDto;
+import com.selimhorri.app.dto.request.ReservationRequest;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.service.ReservationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/reservations")
+@Slf4j
+@RequiredArgsConstructor
+public class ReservationResource {
+	
+	private final ReservationService reservationService;
+	
+	@GetMapping("/{orderId}")
+	public ResponseEntity<DtoCollectionResponse<ReservationDto>> findAllByOrderId(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String orderId) {
+		log.info("*** ReservationDto List, resource; fetch reservations by order id *");
+		return ResponseEntity.ok(this.reservationService.findAllByOrderId(Integer.parseInt(orderId)));
+	}
+	
+	@PostMapping
+	public ResponseEntity<DtoCollectionResponse<ReservationDto>> reserve(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final ReservationRequest reservationRequest) {
+		log.info("*** ReservationDto List, resource; reserve stock for order *");
+		return ResponseEntity.ok(this.reservationService.reserve(reservationRequest));
+	}
+	
+	@PutMapping("/{orderId}/confirm")
+	public ResponseEntity<DtoCollectionResponse<ReservationDto>> confirm(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String orderId) {
+		log.info("*** ReservationDto List, resource; confirm reservations of order *");
+		return ResponseEntity.ok(this.reservationService.confirm(Integer.parseInt(orderId)));
+	}
+	
+	@PutMapping("/{orderId}/release")
+	public ResponseEntity<DtoCollectionResponse<ReservationDto>> release(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String orderId) {
+		log.info("*** ReservationDto List, resource; release reservations of order *");
+		return ResponseEntity.ok(this.reservationService.release(Integer.parseInt(orderId)));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
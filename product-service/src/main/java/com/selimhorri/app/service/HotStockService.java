@@ -0,0 +1,9 @@
+package com.selimhorri.app.service;
+
+public interface HotStockService {
+	
+	boolean tryTake(final Integer productId, final int quantity);
+	boolean tryPut(final Integer productId, final int quantity);
+	void settle();
+	
+}
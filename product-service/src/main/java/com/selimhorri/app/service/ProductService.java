@@ -1,16 +1,27 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.request.ProductFilter;
+import com.selimhorri.app.dto.response.bulk.BulkResponse;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface ProductService {
 	
-	List<ProductDto> findAll();
+	DtoCollectionResponse<ProductDto> findAll(final Integer after, final int limit);
+	DtoCollectionResponse<ProductDto> search(final ProductFilter filter, final Pageable pageable);
 	ProductDto findById(final Integer productId);
+	List<ProductDto> findAllById(final Collection<Integer> productIds);
 	ProductDto save(final ProductDto productDto);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
+	ProductDto adjustStock(final Integer productId, final int delta);
+	BulkResponse saveAll(final List<ProductDto> productDtos);
+	BulkResponse updateAll(final List<ProductDto> productDtos);
 	void deleteById(final Integer productId);
 	
 }
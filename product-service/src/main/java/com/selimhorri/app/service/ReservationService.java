@@ -0,0 +1,15 @@
+package com.selimhorri.app.service;
+
+import com.selimhorri.app.dto.ReservationDto;
+import com.selimhorri.app.dto.request.ReservationRequest;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+public interface ReservationService {
+	
+	DtoCollectionResponse<ReservationDto> findAllByOrderId(final Integer orderId);
+	DtoCollectionResponse<ReservationDto> reserve(final ReservationRequest reservationRequest);
+	DtoCollectionResponse<ReservationDto> confirm(final Integer orderId);
+	DtoCollectionResponse<ReservationDto> release(final Integer orderId);
+	int expireStaleHolds();
+	
+}
@@ -1,19 +1,33 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManagerFactory;
 
+import org.hibernate.SessionFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.selimhorri.app.config.category.CategoryTreeProperties;
+import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.exception.wrapper.InvalidCategoryParentException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.CategoryTreeHelper;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.repository.CategoryRepository;
 import com.selimhorri.app.service.CategoryService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -23,18 +37,26 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final EntityManagerFactory entityManagerFactory;
+	private final CategoryTreeProperties categoryTreeProperties;
+	private final AtomicLong categoryTreeVersion = new AtomicLong();
+	private final AtomicReference<CategoryTreeSnapshot> categoryTree = new AtomicReference<>();
 	
 	@Override
-	public List<CategoryDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<CategoryDto> findAll(final Integer after, final int limit) {
 		log.info("*** CategoryDto List, service; fetch all categorys *");
-		return this.categoryRepository.findAll()
+		final List<Category> categorys = this.categoryRepository.findByCategoryIdGreaterThanOrderByCategoryIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		return new DtoCollectionResponse<>(PaginationHelper.page(categorys, limit)
 				.stream()
 					.map(CategoryMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(categorys, limit, c -> String.valueOf(c.getCategoryId())));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
 		return this.categoryRepository.findById(categoryId)
@@ -42,33 +64,113 @@ public class CategoryServiceImpl implements CategoryService {
 				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId)));
 	}
 	
+	// served from an in-memory snapshot; the snapshot is rebuilt after a category write commits on this node, or
+	// once it is older than the max age for writes on other nodes, and is read from the primary since the replica
+	// may not have that write yet
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public DtoCollectionResponse<CategoryDto> findTree() {
+		log.info("*** CategoryDto List, service; fetch category tree *");
+		final long version = this.categoryTreeVersion.get();
+		final CategoryTreeSnapshot snapshot = this.categoryTree.get();
+		if (snapshot != null && snapshot.getVersion() == version 
+				&& System.nanoTime() - snapshot.getBuiltAt() < this.categoryTreeProperties.getMaxAge().toNanos()) {
+			return snapshot.getTree();
+		}
+		final long builtAt = System.nanoTime();
+		final var tree = new DtoCollectionResponse<>(CategoryTreeHelper
+				.build(this.categoryRepository.findAllByOrderByCategoryIdAsc()));
+		this.categoryTree.set(new CategoryTreeSnapshot(version, builtAt, tree));
+		return tree;
+	}
+	
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		this.evictCategoryCacheAfterCommit();
+		return CategoryMappingHelper.map(this.write(CategoryMappingHelper.map(categoryDto)));
 	}
 	
 	@Override
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(categoryDto)));
+		this.evictCategoryCacheAfterCommit();
+		return CategoryMappingHelper.map(this.write(CategoryMappingHelper.map(categoryDto)));
 	}
 	
 	@Override
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
-		return CategoryMappingHelper.map(this.categoryRepository
-				.save(CategoryMappingHelper.map(this.findById(categoryId))));
+		this.evictCategoryCacheAfterCommit();
+		return CategoryMappingHelper.map(this.write(CategoryMappingHelper.map(this.findById(categoryId))));
 	}
 	
 	@Override
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
+		this.evictCategoryCacheAfterCommit();
 		this.categoryRepository.deleteById(categoryId);
 	}
 	
+	private Category write(final Category category) {
+		final Category parentCategory = this.findParentCategory(category);
+		final String previousPath = (category.getCategoryId() == null) ? null : this.categoryRepository
+				.findById(category.getCategoryId())
+				.map(Category::getCategoryPath)
+				.orElse(null);
+		if (previousPath != null && parentCategory != null 
+				&& parentCategory.getCategoryPath().startsWith(previousPath)) {
+			throw new InvalidCategoryParentException(String
+					.format("Category with id: %d cannot be moved under itself", category.getCategoryId()));
+		}
+		
+		category.setParentCategory(parentCategory);
+		final Category savedCategory = this.categoryRepository.save(category);
+		final String categoryPath = CategoryTreeHelper.path(parentCategory, savedCategory.getCategoryId());
+		savedCategory.setCategoryPath(categoryPath);
+		if (previousPath != null && !previousPath.equals(categoryPath)) {
+			this.categoryRepository.updateCategoryPathPrefix(previousPath, categoryPath);
+		}
+		return savedCategory;
+	}
+	
+	private Category findParentCategory(final Category category) {
+		final Integer parentCategoryId = (category.getParentCategory() != null) ? 
+				category.getParentCategory().getCategoryId() : null;
+		if (parentCategoryId == null) {
+			return null;
+		}
+		return this.categoryRepository.findById(parentCategoryId)
+				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", parentCategoryId)));
+	}
+	
+	private void evictCategoryCacheAfterCommit() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			this.evictCategoryCache();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictCategoryCache();
+			}
+		});
+	}
+	
+	private void evictCategoryCache() {
+		log.info("*** Void, service; evict cached categories, category queries and category tree *");
+		this.categoryTreeVersion.incrementAndGet();
+		this.entityManagerFactory.getCache().evict(Category.class);
+		this.entityManagerFactory.unwrap(SessionFactory.class).getCache().evictDefaultQueryRegion();
+	}
+	
+	@Value
+	private static class CategoryTreeSnapshot {
+		long version;
+		long builtAt;
+		DtoCollectionResponse<CategoryDto> tree;
+	}
+	
 	
 	
 }
@@ -0,0 +1,301 @@
+package com.selimhorri.app.service.impl;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.stock.HotStockProperties;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.repository.InventoryRepository;
+import com.selimhorri.app.service.HotStockService;
+import com.selimhorri.app.stock.StockJournal;
+import com.selimhorri.app.stock.StockJournal.Entry;
+import com.selimhorri.app.stock.StripedStockCounter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// flagged products are sold from stock the node leases off their rows in blocks, so checkouts stop queueing
+// on the row lock; the row keeps the true total, and only sees the sales and lease changes of a settle interval
+// as one batched delta per product
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HotStockServiceImpl implements HotStockService {
+	
+	private final HotStockProperties hotStockProperties;
+	private final InventoryRepository inventoryRepository;
+	private final TransactionTemplate bulkTransactionTemplate;
+	private final EntityManagerFactory entityManagerFactory;
+	private final Map<Integer, StripedStockCounter> counters = new ConcurrentHashMap<>();
+	private final ExecutorService settleExecutor = Executors.newSingleThreadExecutor();
+	private final AtomicBoolean settlePending = new AtomicBoolean();
+	private volatile StockJournal stockJournal;
+	
+	@PostConstruct
+	public synchronized void recover() throws IOException {
+		if (!this.hotStockProperties.isEnabled()) {
+			return;
+		}
+		this.hotStockProperties.getProductIds().forEach(productId ->
+				this.counters.put(productId, new StripedStockCounter(this.hotStockProperties.getStripes())));
+		this.stockJournal = new StockJournal(Paths.get(this.hotStockProperties.getJournalPath()));
+		
+		// units leased before a crash are served again, or handed back to the rows of products no longer flagged;
+		// sales that never reached the rows are written back first
+		final SortedMap<Integer, Integer> sold = this.unsettledSales();
+		final SortedMap<Integer, Integer> unflagged = new TreeMap<>();
+		this.stockJournal.balances().forEach((productId, balance) -> {
+			if (balance.getHeld() <= 0) {
+				return;
+			}
+			final StripedStockCounter counter = this.counters.get(productId);
+			if (counter != null) {
+				counter.put(balance.getHeld());
+			}
+			else {
+				unflagged.put(productId, Math.toIntExact(balance.getHeld()));
+			}
+		});
+		this.writeBack(sold, unflagged);
+		this.stockJournal.compact();
+		log.info("*** Void, service; recovered hot stock {} *", this.stockJournal.balances());
+	}
+	
+	@Override
+	public boolean tryTake(final Integer productId, final int quantity) {
+		final StripedStockCounter counter = this.counters.get(productId);
+		final StockJournal journal = this.stockJournal;
+		if (counter == null || journal == null) {
+			return false;
+		}
+		if (!counter.tryTake(quantity)) {
+			// ran dry between two settles, the row serves this line while the counter is topped up
+			this.settleSoon();
+			return false;
+		}
+		final long sequence;
+		try {
+			sequence = journal.append(Entry.TAKE, productId, quantity);
+		}
+		catch (RuntimeException e) {
+			counter.put(quantity);
+			throw e;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			journal.await(sequence);
+			return true;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			
+			// the record is written and forced by whichever take commits first, together with every other one
+			// buffered meanwhile; it is on disk before the sale commits, so a crash can only strand units, never sell
+			// them twice
+			@Override
+			public void beforeCommit(final boolean readOnly) {
+				journal.await(sequence);
+			}
+			
+			@Override
+			public void afterCompletion(final int status) {
+				if (status != STATUS_COMMITTED) {
+					put(productId, quantity);
+				}
+			}
+		});
+		return true;
+	}
+	
+	@Override
+	public boolean tryPut(final Integer productId, final int quantity) {
+		if (!this.counters.containsKey(productId)) {
+			return false;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			this.put(productId, quantity);
+			return true;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				put(productId, quantity);
+			}
+		});
+		return true;
+	}
+	
+	@Override
+	@Scheduled(initialDelayString = "${app.hot-stock.settle-interval:PT1S}", fixedDelayString = "${app.hot-stock.settle-interval:PT1S}")
+	public synchronized void settle() {
+		if (this.stockJournal == null) {
+			return;
+		}
+		final int leaseSize = this.hotStockProperties.getLeaseSize();
+		final SortedMap<Integer, Integer> surpluses = new TreeMap<>();
+		final SortedMap<Integer, Integer> shortfalls = new TreeMap<>();
+		this.counters.forEach((productId, counter) -> {
+			final long held = counter.sum();
+			if (held > 2L * leaseSize && counter.tryTake(Math.toIntExact(held - leaseSize))) {
+				surpluses.put(productId, Math.toIntExact(held - leaseSize));
+			}
+			else if (held < leaseSize) {
+				shortfalls.put(productId, Math.toIntExact(leaseSize - held));
+			}
+		});
+		this.writeBack(this.unsettledSales(), surpluses);
+		this.lease(shortfalls);
+		this.stockJournal.force();
+		this.stockJournal.compact();
+	}
+	
+	@PreDestroy
+	public synchronized void drain() throws IOException {
+		this.settleExecutor.shutdown();
+		if (this.stockJournal == null) {
+			return;
+		}
+		// late reservations fall back to the rows from here on
+		final Map<Integer, StripedStockCounter> drained = Map.copyOf(this.counters);
+		this.counters.clear();
+		final SortedMap<Integer, Integer> held = new TreeMap<>();
+		drained.forEach((productId, counter) -> {
+			final int sum = Math.toIntExact(counter.sum());
+			if (sum > 0 && counter.tryTake(sum)) {
+				held.put(productId, sum);
+			}
+		});
+		try {
+			this.writeBack(this.unsettledSales(), held);
+			this.stockJournal.compact();
+		}
+		finally {
+			this.stockJournal.close();
+			this.stockJournal = null;
+		}
+		log.info("*** Void, service; returned hot stock {} to the products table *", held);
+	}
+	
+	private synchronized void put(final Integer productId, final int quantity) {
+		final StripedStockCounter counter = this.counters.get(productId);
+		if (counter == null) {
+			// drained on shutdown, the journal is closed and the units stay stranded rather than risk a double sale
+			return;
+		}
+		// not awaited, a lost put leaves the units counted as sold, which strands them but never sells them twice
+		this.stockJournal.append(Entry.PUT, productId, quantity);
+		counter.put(quantity);
+	}
+	
+	private SortedMap<Integer, Integer> unsettledSales() {
+		final SortedMap<Integer, Integer> sold = new TreeMap<>();
+		this.stockJournal.balances().forEach((productId, balance) -> {
+			if (balance.getSold() != 0) {
+				sold.put(productId, Math.toIntExact(balance.getSold()));
+			}
+		});
+		return sold;
+	}
+	
+	private void settleSoon() {
+		if (this.settlePending.compareAndSet(false, true)) {
+			this.settleExecutor.execute(() -> {
+				this.settlePending.set(false);
+				this.settle();
+			});
+		}
+	}
+	
+	private void lease(final SortedMap<Integer, Integer> shortfalls) {
+		if (shortfalls.isEmpty()) {
+			return;
+		}
+		// never ask for more than the row has unleased, the conditional update then only misses on a concurrent change
+		final Map<Integer, Integer> available = this.inventoryRepository.findAvailable(shortfalls.keySet());
+		final SortedMap<Integer, Integer> leases = new TreeMap<>();
+		shortfalls.forEach((productId, quantity) -> {
+			final int lease = Math.min(quantity, available.getOrDefault(productId, 0));
+			if (lease > 0) {
+				leases.put(productId, lease);
+			}
+		});
+		if (leases.isEmpty()) {
+			return;
+		}
+		final int[] updateCounts = this.bulkTransactionTemplate.execute(status -> this.inventoryRepository.leaseAll(leases));
+		final List<Integer> productIds = List.copyOf(leases.keySet());
+		for (int i = 0; i < productIds.size(); i++) {
+			if (updateCounts[i] == 0) {
+				continue;
+			}
+			final Integer productId = productIds.get(i);
+			// journaled once the lease is committed, a crash in between can only strand units, never double them
+			this.stockJournal.append(Entry.LEASE, productId, leases.get(productId));
+			this.counters.get(productId).put(leases.get(productId));
+		}
+	}
+	
+	// sales leave the row total and the lease together, returned units only the lease; both are journaled and
+	// forced first, so a crash before the rows are updated can only strand units, never sell them twice
+	private void writeBack(final SortedMap<Integer, Integer> sold, final SortedMap<Integer, Integer> returned) {
+		if (sold.isEmpty() && returned.isEmpty()) {
+			return;
+		}
+		sold.forEach((productId, quantity) -> this.stockJournal.append(Entry.SETTLE, productId, quantity));
+		returned.forEach((productId, quantity) -> this.stockJournal.append(Entry.RETURN, productId, quantity));
+		this.stockJournal.force();
+		try {
+			this.bulkTransactionTemplate.execute(status -> {
+				this.inventoryRepository.settleAll(sold);
+				return this.inventoryRepository.returnAll(returned);
+			});
+		}
+		catch (RuntimeException e) {
+			// the rows were left as they were, so the sales are still pending and the units still this node's
+			sold.forEach((productId, quantity) -> this.stockJournal.append(Entry.PENDING, productId, quantity));
+			returned.forEach((productId, quantity) -> {
+				this.stockJournal.append(Entry.LEASE, productId, quantity);
+				final StripedStockCounter counter = this.counters.get(productId);
+				if (counter != null) {
+					counter.put(quantity);
+				}
+			});
+			throw e;
+		}
+		this.evictProducts(sold.keySet());
+	}
+	
+	private void evictProducts(final Collection<Integer> productIds) {
+		productIds.forEach(productId -> this.entityManagerFactory.getCache().evict(Product.class, productId));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,15 +1,47 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
 
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.selimhorri.app.config.bulk.BulkProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.request.ProductFilter;
+import com.selimhorri.app.dto.response.bulk.BulkItemError;
+import com.selimhorri.app.dto.response.bulk.BulkResponse;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.helper.ProductSpecificationHelper;
+import com.selimhorri.app.repository.InventoryRepository;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.ProductService;
 
@@ -22,19 +54,51 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ProductServiceImpl implements ProductService {
 	
+	private static final Set<String> SORTABLE_PROPERTIES = Set.of("productId", "productTitle", "priceUnit", "quantity");
+	
 	private final ProductRepository productRepository;
+	private final InventoryRepository inventoryRepository;
+	private final EntityManager entityManager;
+	private final TransactionTemplate bulkTransactionTemplate;
+	private final BulkProperties bulkProperties;
 	
 	@Override
-	public List<ProductDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<ProductDto> findAll(final Integer after, final int limit) {
 		log.info("*** ProductDto List, service; fetch all products *");
-		return this.productRepository.findAll()
+		final List<Product> products = this.productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		return new DtoCollectionResponse<>(PaginationHelper.page(products, limit)
 				.stream()
 					.map(ProductMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(products, limit, p -> String.valueOf(p.getProductId())));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<ProductDto> search(final ProductFilter filter, final Pageable pageable) {
+		log.info("*** ProductDto List, service; search products *");
+		final Page<Product> products = this.productRepository.findAll(ProductSpecificationHelper.of(filter), 
+				PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), AppConstant.Pagination.MAX_LIMIT), 
+						sortOf(pageable.getSort())));
+		return new DtoCollectionResponse<>(products.getContent()
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), 
+				(products.hasNext()) ? String.valueOf(products.getNumber() + 1) : null);
+	}
+	
+	// unindexed columns are not sortable, and the id tiebreaker keeps page boundaries stable
+	private static Sort sortOf(final Sort sort) {
+		return Sort.by(sort.stream()
+				.filter(order -> SORTABLE_PROPERTIES.contains(order.getProperty()))
+				.collect(Collectors.toList()))
+				.and((sort.getOrderFor("productId") == null) ? Sort.by("productId") : Sort.unsorted());
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
 		return this.productRepository.findById(productId)
@@ -42,6 +106,19 @@ public class ProductServiceImpl implements ProductService {
 				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public List<ProductDto> findAllById(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch products by ids *");
+		if (productIds == null || productIds.isEmpty()) {
+			return List.of();
+		}
+		return this.productRepository.findAllByProductIdIn(productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
@@ -52,15 +129,172 @@ public class ProductServiceImpl implements ProductService {
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		return this.update(productDto.getProductId(), productDto);
 	}
 	
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(this.findById(productId))));
+		final Product managed = Optional.ofNullable(productId)
+				.flatMap(this.productRepository::findById)
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
+		// quantity is kept as loaded, stock only changes through reservations and adjustStock
+		managed.setProductTitle(productDto.getProductTitle());
+		managed.setImageUrl(productDto.getImageUrl());
+		managed.setSku(productDto.getSku());
+		managed.setPriceUnit(productDto.getPriceUnit());
+		managed.setCategory(this.entityManager.getReference(Category.class, productDto.getCategoryDto().getCategoryId()));
+		return ProductMappingHelper.map(managed);
+	}
+	
+	@Override
+	public ProductDto adjustStock(final Integer productId, final int delta) {
+		log.info("*** ProductDto, service; adjust stock of product *");
+		if (this.inventoryRepository.adjust(productId, delta) == 0) {
+			if (!this.productRepository.existsById(productId)) {
+				throw new ProductNotFoundException(String.format("Product with id: %d not found", productId));
+			}
+			throw new InsufficientStockException(String
+					.format("Insufficient stock for products with ids: [%d]", productId));
+		}
+		// evicted now so the response reads the new row, and after commit so no concurrent read caches the old one
+		this.evictProduct(productId);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictProduct(productId);
+			}
+		});
+		return this.findById(productId);
+	}
+	
+	private void evictProduct(final Integer productId) {
+		this.entityManager.getEntityManagerFactory().getCache().evict(Product.class, productId);
+	}
+	
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public BulkResponse saveAll(final List<ProductDto> productDtos) {
+		log.info("*** BulkResponse, service; save products in bulk *");
+		return this.writeInChunks(productDtos, false);
+	}
+	
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public BulkResponse updateAll(final List<ProductDto> productDtos) {
+		log.info("*** BulkResponse, service; update products in bulk *");
+		return this.writeInChunks(productDtos, true);
+	}
+	
+	private BulkResponse writeInChunks(final List<ProductDto> productDtos, final boolean update) {
+		final List<BulkItemError> errors = new ArrayList<>();
+		final List<Integer> validIndexes = new ArrayList<>();
+		for (int i = 0; i < productDtos.size(); i++) {
+			final String violation = validate(productDtos.get(i), update);
+			if (violation != null) {
+				errors.add(error(i, productDtos.get(i), violation));
+			}
+			else {
+				validIndexes.add(i);
+			}
+		}
+		int succeeded = 0;
+		for (int from = 0; from < validIndexes.size(); from += this.bulkProperties.getChunkSize()) {
+			succeeded += this.writeChunk(validIndexes.subList(from, 
+					Math.min(from + this.bulkProperties.getChunkSize(), validIndexes.size())), productDtos, update, errors);
+		}
+		errors.sort(Comparator.comparingInt(BulkItemError::getIndex));
+		return new BulkResponse(succeeded, errors.size(), errors);
+	}
+	
+	// one transaction per chunk; a chunk rejected by the database is replayed item by item to isolate the culprits
+	private int writeChunk(final List<Integer> indexes, final List<ProductDto> productDtos, 
+			final boolean update, final List<BulkItemError> errors) {
+		try {
+			final List<BulkItemError> chunkErrors = this.bulkTransactionTemplate
+					.execute(status -> this.write(indexes, productDtos, update));
+			errors.addAll(chunkErrors);
+			return indexes.size() - chunkErrors.size();
+		}
+		catch (PersistenceException | DataAccessException | TransactionException e) {
+			if (indexes.size() == 1) {
+				log.info("*** BulkResponse, service; product at index {} rejected: {} *", indexes.get(0), e.getMessage());
+				errors.add(error(indexes.get(0), productDtos.get(indexes.get(0)), 
+						NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+				return 0;
+			}
+			return indexes.stream()
+					.mapToInt(i -> this.writeChunk(List.of(i), productDtos, update, errors))
+					.sum();
+		}
+	}
+	
+	private List<BulkItemError> write(final List<Integer> indexes, final List<ProductDto> productDtos, final boolean update) {
+		final List<BulkItemError> errors = new ArrayList<>();
+		final Map<Integer, Product> existing = (update) ? this.findExisting(indexes, productDtos) : Map.of();
+		for (final Integer i : indexes) {
+			final Product product = ProductMappingHelper.map(productDtos.get(i));
+			if (!update) {
+				this.entityManager.persist(product);
+			}
+			else if (existing.containsKey(product.getProductId())) {
+				final Product managed = existing.get(product.getProductId());
+				managed.setProductTitle(product.getProductTitle());
+				managed.setImageUrl(product.getImageUrl());
+				managed.setSku(product.getSku());
+				managed.setPriceUnit(product.getPriceUnit());
+				managed.setCategory(product.getCategory());
+			}
+			else {
+				errors.add(error(i, productDtos.get(i), String
+						.format("Product with id: %d not found", product.getProductId())));
+			}
+		}
+		this.entityManager.flush();
+		this.entityManager.clear();
+		return errors;
+	}
+	
+	private Map<Integer, Product> findExisting(final List<Integer> indexes, final List<ProductDto> productDtos) {
+		return this.productRepository.findAllById(indexes.stream()
+					.map(i -> productDtos.get(i).getProductId())
+					.collect(Collectors.toSet()))
+				.stream()
+					.collect(Collectors.toMap(Product::getProductId, Function.identity()));
+	}
+	
+	private static String validate(final ProductDto productDto, final boolean update) {
+		if (productDto == null) {
+			return "Product must not be NULL";
+		}
+		if (update && productDto.getProductId() == null) {
+			return "Product id must not be NULL for an update";
+		}
+		if (!update && productDto.getProductId() != null) {
+			return "Product id must be NULL for a create";
+		}
+		if (productDto.getProductTitle() == null || productDto.getProductTitle().isBlank()) {
+			return "Product title must not be blank";
+		}
+		if (productDto.getPriceUnit() != null && productDto.getPriceUnit() < 0) {
+			return "Price unit must not be negative";
+		}
+		if (productDto.getQuantity() != null && productDto.getQuantity() < 0) {
+			return "Quantity must not be negative";
+		}
+		if (productDto.getCategoryDto() == null || productDto.getCategoryDto().getCategoryId() == null) {
+			return "Category id must not be NULL";
+		}
+		return null;
+	}
+	
+	private static BulkItemError error(final int index, final ProductDto productDto, final String message) {
+		return BulkItemError.builder()
+				.index(index)
+				.productId((productDto != null) ? productDto.getProductId() : null)
+				.sku((productDto != null) ? productDto.getSku() : null)
+				.message(message)
+				.build();
 	}
 	
 	@Override
@@ -0,0 +1,247 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.reservation.ReservationProperties;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.domain.Reservation;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.dto.ReservationDto;
+import com.selimhorri.app.dto.request.ReservationLine;
+import com.selimhorri.app.dto.request.ReservationRequest;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.InvalidReservationStateException;
+import com.selimhorri.app.exception.wrapper.ReservationNotFoundException;
+import com.selimhorri.app.helper.ReservationMappingHelper;
+import com.selimhorri.app.repository.InventoryRepository;
+import com.selimhorri.app.repository.ReservationRepository;
+import com.selimhorri.app.service.HotStockService;
+import com.selimhorri.app.service.ReservationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class ReservationServiceImpl implements ReservationService {
+	
+	private final ReservationRepository reservationRepository;
+	private final InventoryRepository inventoryRepository;
+	private final HotStockService hotStockService;
+	private final EntityManagerFactory entityManagerFactory;
+	private final TransactionTemplate bulkTransactionTemplate;
+	private final ReservationProperties reservationProperties;
+	
+	@Override
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<ReservationDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** ReservationDto List, service; fetch reservations by order id *");
+		return map(this.findOrderReservations(orderId));
+	}
+	
+	@Override
+	public DtoCollectionResponse<ReservationDto> reserve(final ReservationRequest reservationRequest) {
+		log.info("*** ReservationDto List, service; reserve stock for order *");
+		final Integer orderId = reservationRequest.getOrderId();
+		if (this.reservationRepository.existsByOrderId(orderId)) {
+			throw new InvalidReservationStateException(String
+					.format("Order with id: %d already holds a reservation", orderId));
+		}
+		final SortedMap<Integer, Integer> quantities = reservationRequest.getLines().stream()
+				.collect(Collectors.groupingBy(ReservationLine::getProductId, TreeMap::new, 
+						Collectors.summingInt(ReservationLine::getQuantity)));
+		
+		// flagged products are served from the node's in-memory stock, their rows are only hit once it runs dry
+		final SortedMap<Integer, Integer> rowQuantities = new TreeMap<>(quantities);
+		rowQuantities.keySet().removeIf(productId -> this.hotStockService.tryTake(productId, quantities.get(productId)));
+		
+		// stock is taken before the holds are written, the foreign key checks of the holds would otherwise
+		// share-lock the product rows and deadlock with the decrement of a concurrent order
+		final int[] updateCounts = this.inventoryRepository.decrementAll(rowQuantities);
+		final List<Integer> productIds = List.copyOf(rowQuantities.keySet());
+		final List<Integer> shortProductIds = IntStream.range(0, productIds.size())
+				.filter(i -> updateCounts[i] == 0)
+				.mapToObj(productIds::get)
+				.collect(Collectors.toUnmodifiableList());
+		if (!shortProductIds.isEmpty()) {
+			throw new InsufficientStockException(String
+					.format("Insufficient stock for products with ids: %s", shortProductIds));
+		}
+		
+		final Instant expiresAt = Instant.now().plus(this.reservationProperties.getHoldTimeout());
+		final List<Reservation> reservations = this.reservationRepository.saveAll(quantities.entrySet().stream()
+				.map(e -> Reservation.builder()
+						.orderId(orderId)
+						.productId(e.getKey())
+						.quantity(e.getValue())
+						.reservationStatus(ReservationStatus.HELD)
+						.expiresAt(expiresAt)
+						.build())
+				.collect(Collectors.toList()));
+		this.evictProductsAfterCommit(productIds);
+		return map(reservations);
+	}
+	
+	@Override
+	public DtoCollectionResponse<ReservationDto> confirm(final Integer orderId) {
+		log.info("*** ReservationDto List, service; confirm reservations of order *");
+		final List<Reservation> reservations = this.findOrderReservations(orderId);
+		final Instant now = Instant.now();
+		for (final Reservation reservation : reservations) {
+			if (reservation.getReservationStatus() == ReservationStatus.CONFIRMED) {
+				continue;
+			}
+			if (reservation.getReservationStatus() != ReservationStatus.HELD || reservation.getExpiresAt().isBefore(now)) {
+				throw new InvalidReservationStateException(String
+						.format("Reservation of order with id: %d is no longer held", orderId));
+			}
+			reservation.setReservationStatus(ReservationStatus.CONFIRMED);
+		}
+		this.flush(orderId);
+		return map(reservations);
+	}
+	
+	@Override
+	public DtoCollectionResponse<ReservationDto> release(final Integer orderId) {
+		log.info("*** ReservationDto List, service; release reservations of order *");
+		final List<Reservation> reservations = this.findOrderReservations(orderId);
+		if (reservations.stream().anyMatch(r -> r.getReservationStatus() == ReservationStatus.CONFIRMED)) {
+			throw new InvalidReservationStateException(String
+					.format("Reservation of order with id: %d is already confirmed", orderId));
+		}
+		final List<Reservation> held = reservations.stream()
+				.filter(r -> r.getReservationStatus() == ReservationStatus.HELD)
+				.collect(Collectors.toList());
+		held.forEach(r -> r.setReservationStatus(ReservationStatus.RELEASED));
+		this.flush(orderId);
+		this.restock(held);
+		return map(reservations);
+	}
+	
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@Scheduled(initialDelayString = "${app.reservation.expiry-interval:PT30S}", fixedDelayString = "${app.reservation.expiry-interval:PT30S}")
+	public int expireStaleHolds() {
+		int expired = 0;
+		int chunk;
+		do {
+			try {
+				chunk = this.bulkTransactionTemplate.execute(status -> this.expireChunk(Instant.now()));
+			}
+			catch (ObjectOptimisticLockingFailureException e) {
+				// a confirm or another node got to one of the holds first, the rest is picked up on the next run
+				log.warn("*** Integer, service; expiry of stale holds interrupted by a concurrent change *");
+				break;
+			}
+			expired += chunk;
+		}
+		while (chunk == this.reservationProperties.getExpiryBatchSize());
+		if (expired > 0) {
+			log.info("*** Integer, service; expired {} stale holds *", expired);
+		}
+		return expired;
+	}
+	
+	private int expireChunk(final Instant now) {
+		final List<Reservation> stale = this.reservationRepository
+				.findByReservationStatusAndExpiresAtBeforeOrderByReservationIdAsc(ReservationStatus.HELD, now, 
+						PageRequest.of(0, this.reservationProperties.getExpiryBatchSize()));
+		stale.forEach(r -> r.setReservationStatus(ReservationStatus.EXPIRED));
+		this.reservationRepository.flush();
+		this.restock(stale);
+		return stale.size();
+	}
+	
+	private List<Reservation> findOrderReservations(final Integer orderId) {
+		final List<Reservation> reservations = this.reservationRepository.findAllByOrderIdOrderByProductIdAsc(orderId);
+		if (reservations.isEmpty()) {
+			throw new ReservationNotFoundException(String
+					.format("Reservation of order with id: %d not found", orderId));
+		}
+		return reservations;
+	}
+	
+	// the version check in the flush before a restock lets exactly one of release and expiry return the stock
+	private void flush(final Integer orderId) {
+		try {
+			this.reservationRepository.flush();
+		}
+		catch (ObjectOptimisticLockingFailureException e) {
+			throw new InvalidReservationStateException(String
+					.format("Reservation of order with id: %d was changed concurrently", orderId), e);
+		}
+	}
+	
+	private void restock(final List<Reservation> reservations) {
+		if (reservations.isEmpty()) {
+			return;
+		}
+		final SortedMap<Integer, Integer> quantities = reservations.stream()
+				.collect(Collectors.groupingBy(Reservation::getProductId, TreeMap::new, 
+						Collectors.summingInt(Reservation::getQuantity)));
+		quantities.keySet().removeIf(productId -> this.hotStockService.tryPut(productId, quantities.get(productId)));
+		if (quantities.isEmpty()) {
+			return;
+		}
+		this.inventoryRepository.incrementAll(quantities);
+		this.evictProductsAfterCommit(quantities.keySet());
+	}
+	
+	// stock moves through plain JDBC, so the cached products are dropped one by one once the change is visible
+	private void evictProductsAfterCommit(final Collection<Integer> productIds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			this.evictProducts(productIds);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictProducts(productIds);
+			}
+		});
+	}
+	
+	private void evictProducts(final Collection<Integer> productIds) {
+		productIds.forEach(productId -> this.entityManagerFactory.getCache().evict(Product.class, productId));
+	}
+	
+	private static DtoCollectionResponse<ReservationDto> map(final List<Reservation> reservations) {
+		return new DtoCollectionResponse<>(reservations.stream()
+				.map(ReservationMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,262 @@
+package com.selimhorri.app.stock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+// append-only log of every change to the stock a node holds in memory; replaying it after a crash gives back,
+// per product, the units leased from the products table that are still held and the sales not yet written back
+public class StockJournal implements Closeable {
+	
+	@RequiredArgsConstructor
+	@Getter
+	public enum Entry {
+		
+		LEASE(1, 0),
+		RETURN(-1, 0),
+		TAKE(-1, 1),
+		PUT(1, -1),
+		SETTLE(0, -1),
+		PENDING(0, 1);
+		
+		private final int heldSign;
+		private final int soldSign;
+		
+	}
+	
+	@Value
+	public static class Balance {
+		
+		long held;
+		long sold;
+		
+	}
+	
+	private static final int RECORD_SIZE = Byte.BYTES + Integer.BYTES + Integer.BYTES;
+	private static final int INITIAL_BUFFER_SIZE = 4096 * RECORD_SIZE;
+	
+	private final Path path;
+	private final Map<Integer, long[]> balances = new HashMap<>();
+	private ByteBuffer pending = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+	private ByteBuffer flushed = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+	private long appended;
+	private long written;
+	private boolean flushing;
+	private IOException failure;
+	private FileChannel channel;
+	
+	public StockJournal(final Path path) throws IOException {
+		this.path = path;
+		Files.createDirectories(path.toAbsolutePath().getParent());
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		// a torn record at the tail was never acknowledged to its caller, so it is cut off before appending
+		this.channel.truncate(this.replay());
+		this.channel.position(this.channel.size());
+	}
+	
+	public synchronized Map<Integer, Balance> balances() {
+		final Map<Integer, Balance> copy = new HashMap<>();
+		this.balances.forEach((productId, balance) -> copy.put(productId, new Balance(balance[0], balance[1])));
+		return copy;
+	}
+	
+	// only buffers the record and returns its sequence, the caller awaits it before acknowledging anything
+	// that depends on it
+	public synchronized long append(final Entry entry, final Integer productId, final int quantity) {
+		this.checkFailure();
+		if (this.pending.remaining() < RECORD_SIZE) {
+			this.pending = ByteBuffer.allocate(this.pending.capacity() * 2).put(this.pending.flip());
+		}
+		this.pending.put((byte) entry.ordinal()).putInt(productId).putInt(quantity);
+		this.apply(entry, productId, quantity);
+		return ++this.appended;
+	}
+	
+	// group commit: the first waiter writes and forces every record buffered so far in one go while later
+	// appenders keep buffering, so nothing that was awaited is lost to a process crash or a power loss; the
+	// force is shared by every waiter of the batch
+	public void await(final long sequence) {
+		final ByteBuffer batch;
+		final FileChannel target;
+		final long upTo;
+		synchronized (this) {
+			while (this.written < sequence && this.flushing) {
+				this.waitForFlush();
+			}
+			if (this.written >= sequence) {
+				return;
+			}
+			this.checkFailure();
+			this.flushing = true;
+			batch = this.pending.flip();
+			this.pending = this.flushed;
+			this.flushed = batch;
+			target = this.channel;
+			upTo = this.appended;
+		}
+		IOException failure = null;
+		try {
+			while (batch.hasRemaining()) {
+				target.write(batch);
+			}
+			target.force(false);
+		}
+		catch (IOException e) {
+			failure = e;
+		}
+		synchronized (this) {
+			batch.clear();
+			this.flushing = false;
+			if (failure == null) {
+				this.written = upTo;
+			}
+			else {
+				// a partial write leaves the file misaligned, nothing may be appended after it
+				this.failure = failure;
+			}
+			this.notifyAll();
+		}
+		this.checkFailure();
+	}
+	
+	public synchronized void force() {
+		this.writePending();
+		try {
+			this.channel.force(false);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	// rewrites the journal as one record per balance left, so it never outgrows a settle interval of traffic;
+	// records still buffered are covered by the rewrite
+	public synchronized void compact() {
+		while (this.flushing) {
+			this.waitForFlush();
+		}
+		this.checkFailure();
+		this.balances.values().removeIf(balance -> balance[0] <= 0 && balance[1] == 0);
+		final Path compacted = this.path.resolveSibling(this.path.getFileName() + ".compact");
+		try {
+			try (final FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				final ByteBuffer records = ByteBuffer.allocate(this.balances.size() * 2 * RECORD_SIZE);
+				this.balances.forEach((productId, balance) -> {
+					if (balance[0] > 0) {
+						records.put((byte) Entry.LEASE.ordinal()).putInt(productId).putInt(Math.toIntExact(balance[0]));
+					}
+					if (balance[1] != 0) {
+						records.put((byte) Entry.PENDING.ordinal()).putInt(productId).putInt(Math.toIntExact(balance[1]));
+					}
+				});
+				records.flip();
+				while (records.hasRemaining()) {
+					out.write(records);
+				}
+				out.force(true);
+			}
+			this.channel.close();
+			Files.move(compacted, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			this.channel = FileChannel.open(this.path, StandardOpenOption.WRITE);
+			this.channel.position(this.channel.size());
+			this.pending.clear();
+			this.written = this.appended;
+			this.notifyAll();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			this.writePending();
+		}
+		finally {
+			this.channel.close();
+		}
+	}
+	
+	private void writePending() {
+		while (this.flushing) {
+			this.waitForFlush();
+		}
+		this.checkFailure();
+		try {
+			this.pending.flip();
+			while (this.pending.hasRemaining()) {
+				this.channel.write(this.pending);
+			}
+			this.written = this.appended;
+			this.notifyAll();
+		}
+		catch (IOException e) {
+			this.failure = e;
+			throw new UncheckedIOException(e);
+		}
+		finally {
+			this.pending.clear();
+		}
+	}
+	
+	private void waitForFlush() {
+		try {
+			this.wait();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedIOException(new InterruptedIOException("Interrupted while awaiting the stock journal"));
+		}
+	}
+	
+	private void checkFailure() {
+		if (this.failure != null) {
+			throw new UncheckedIOException(this.failure);
+		}
+	}
+	
+	private void apply(final Entry entry, final Integer productId, final int quantity) {
+		final long[] balance = this.balances.computeIfAbsent(productId, id -> new long[2]);
+		balance[0] += (long) entry.getHeldSign() * quantity;
+		balance[1] += (long) entry.getSoldSign() * quantity;
+	}
+	
+	private long replay() throws IOException {
+		final ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(this.path));
+		while (records.remaining() >= RECORD_SIZE) {
+			final Entry entry = Entry.values()[records.get()];
+			final int productId = records.getInt();
+			final int quantity = records.getInt();
+			this.apply(entry, productId, quantity);
+		}
+		return records.position();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,94 @@
+package com.selimhorri.app.stock;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// stock of one product split over per-core cells, so concurrent takers rarely contend on the same cache line
+public class StripedStockCounter {
+	
+	// longs per cell, keeps every cell on its own 128-byte line
+	private static final int PADDING = 16;
+	
+	private final int stripes;
+	private final AtomicLongArray cells;
+	
+	public StripedStockCounter(final int stripes) {
+		this.stripes = stripes;
+		this.cells = new AtomicLongArray(stripes * PADDING);
+	}
+	
+	public boolean tryTake(final int quantity) {
+		final int home = this.home();
+		return this.takeFrom(home, quantity) || this.rebalance(home, quantity);
+	}
+	
+	public void put(final long quantity) {
+		this.cells.addAndGet(this.home() * PADDING, quantity);
+	}
+	
+	public long sum() {
+		long sum = 0;
+		for (int stripe = 0; stripe < this.stripes; stripe++) {
+			sum += this.cells.get(stripe * PADDING);
+		}
+		return sum;
+	}
+	
+	private int home() {
+		return (int) (Thread.currentThread().getId() % this.stripes);
+	}
+	
+	private boolean takeFrom(final int stripe, final long quantity) {
+		final int index = stripe * PADDING;
+		long current;
+		do {
+			current = this.cells.get(index);
+			if (current < quantity) {
+				return false;
+			}
+		}
+		while (!this.cells.compareAndSet(index, current, current - quantity));
+		return true;
+	}
+	
+	// the home cell ran dry, so the units are gathered from every cell into the caller's hands, where no other
+	// taker can snatch them; whatever is left over, or all of it if the take still fails, goes back to the home cell
+	private boolean rebalance(final int home, final int quantity) {
+		long gathered = 0;
+		for (int i = 0; i < this.stripes && gathered < quantity; i++) {
+			gathered += this.drain((home + i) % this.stripes, quantity - gathered);
+		}
+		final boolean taken = gathered == quantity;
+		if (!taken && gathered > 0) {
+			this.cells.addAndGet(home * PADDING, gathered);
+		}
+		return taken;
+	}
+	
+	private long drain(final int stripe, final long wanted) {
+		final int index = stripe * PADDING;
+		long current;
+		long drained;
+		do {
+			current = this.cells.get(index);
+			drained = Math.min(current, wanted);
+			if (drained <= 0) {
+				return 0;
+			}
+		}
+		while (!this.cells.compareAndSet(index, current, current - drained));
+		return drained;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
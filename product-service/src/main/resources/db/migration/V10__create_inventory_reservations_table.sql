@@ -0,0 +1,28 @@
+
+CREATE TABLE inventory_reservations (
+	reservation_id INT(11) NOT NULL PRIMARY KEY,
+	order_id INT(11) NOT NULL,
+	product_id INT(11) NOT NULL,
+	quantity INT(11) NOT NULL,
+	reservation_status VARCHAR(16) NOT NULL,
+	expires_at TIMESTAMP NOT NULL,
+	version INT(11) DEFAULT 0 NOT NULL,
+	created_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL NULL_TO_DEFAULT,
+	updated_at TIMESTAMP,
+	CONSTRAINT inventory_reservations_order_id_product_id_uk UNIQUE (order_id, product_id)
+);
+
+ALTER TABLE inventory_reservations
+  ADD CONSTRAINT inventory_reservations_product_id_fk FOREIGN KEY (product_id) REFERENCES products (product_id);
+
+-- the expiry sweep scans held rows by deadline
+CREATE INDEX inventory_reservations_status_expires_at_idx ON inventory_reservations (reservation_status, expires_at);
+
+CREATE TABLE inventory_reservations_seq (
+	next_val BIGINT
+);
+
+INSERT INTO inventory_reservations_seq
+(next_val) VALUES
+(1);
+
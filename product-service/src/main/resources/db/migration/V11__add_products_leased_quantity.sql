@@ -0,0 +1,4 @@
+
+ALTER TABLE products
+  ADD COLUMN leased_quantity INT(11) DEFAULT 0 NOT NULL;
+
@@ -0,0 +1,9 @@
+
+CREATE INDEX products_category_id_price_unit_idx ON products (category_id, price_unit);
+
+CREATE INDEX products_price_unit_idx ON products (price_unit);
+
+CREATE INDEX products_quantity_idx ON products (quantity);
+
+CREATE INDEX products_product_title_idx ON products (product_title);
+
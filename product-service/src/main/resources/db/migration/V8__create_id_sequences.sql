@@ -0,0 +1,16 @@
+
+CREATE TABLE categories_seq (
+	next_val BIGINT
+);
+
+INSERT INTO categories_seq
+(next_val)
+SELECT COALESCE(MAX(category_id), 0) + 1 FROM categories;
+
+CREATE TABLE products_seq (
+	next_val BIGINT
+);
+
+INSERT INTO products_seq
+(next_val)
+SELECT COALESCE(MAX(product_id), 0) + 1 FROM products;
@@ -0,0 +1,16 @@
+
+ALTER TABLE categories
+  ADD COLUMN category_path VARCHAR(255);
+
+UPDATE categories c SET category_path = (
+	WITH RECURSIVE category_paths (category_id, category_path) AS (
+		SELECT category_id, CONCAT('/', category_id, '/') FROM categories WHERE parent_category_id IS NULL
+		UNION ALL
+		SELECT child.category_id, CONCAT(parent.category_path, child.category_id, '/')
+		FROM categories child JOIN category_paths parent ON child.parent_category_id = parent.category_id
+	)
+	SELECT p.category_path FROM category_paths p WHERE p.category_id = c.category_id
+);
+
+CREATE INDEX categories_category_path_idx ON categories (category_path);
+
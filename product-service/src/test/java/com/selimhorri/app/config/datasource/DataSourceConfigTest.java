@@ -0,0 +1,61 @@
+package com.selimhorri.app.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary_db;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=jdbc:h2:mem:replica_db;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DataSourceConfigTest {
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private String currentDatabase(final boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> String.valueOf(entityManager
+                .createNativeQuery("SELECT DATABASE()")
+                .getSingleResult()));
+    }
+    
+    @Test
+    @DisplayName("Test read-only transactions are routed to the replica")
+    public void testRouting_WhenReadOnly() {
+        // Act
+        String database = currentDatabase(true);
+        
+        // Assert
+        assertEquals("REPLICA_DB", database);
+    }
+    
+    @Test
+    @DisplayName("Test read-write transactions stay on the primary")
+    public void testRouting_WhenReadWrite() {
+        // Act
+        String database = currentDatabase(false);
+        
+        // Assert
+        assertEquals("PRIMARY_DB", database);
+    }
+}
@@ -0,0 +1,96 @@
+package com.selimhorri.app.config.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+
+// both pools point at one database, so replica reads see every row while the routing and the cache guard are live
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:catalog_db;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=jdbc:h2:mem:catalog_db;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.max-lag=PT1M"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReplicaLagRegionFactoryTest {
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private <T> T inTransaction(final boolean readOnly, final Supplier<T> work) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> work.get());
+    }
+    
+    private long hitCount(final Class<?> entityClass) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(entityClass.getName()).getHitCount();
+    }
+    
+    @Test
+    @DisplayName("Test repeated product and category reads on the replica are served from the second-level cache")
+    public void testFind_WhenReadOnly() {
+        // Arrange
+        inTransaction(true, () -> entityManager.find(Product.class, 1));
+        inTransaction(true, () -> entityManager.find(Category.class, 1));
+        long productHits = hitCount(Product.class);
+        long categoryHits = hitCount(Category.class);
+        
+        // Act
+        Product product = inTransaction(true, () -> entityManager.find(Product.class, 1));
+        Category category = inTransaction(true, () -> entityManager.find(Category.class, 1));
+        
+        // Assert
+        assertEquals("asus", product.getProductTitle());
+        assertEquals(1, category.getCategoryId());
+        assertEquals(productHits + 1, hitCount(Product.class));
+        assertEquals(categoryHits + 1, hitCount(Category.class));
+    }
+    
+    @Test
+    @DisplayName("Test an evicted product is refilled by a primary read but not by replica reads within the max lag")
+    public void testFind_WhenEvictedWithinMaxLag() {
+        // Arrange
+        inTransaction(true, () -> entityManager.find(Product.class, 2));
+        entityManagerFactory.getCache().evict(Product.class, 2);
+        long productHits = hitCount(Product.class);
+        
+        // Act
+        inTransaction(true, () -> entityManager.find(Product.class, 2));
+        inTransaction(true, () -> entityManager.find(Product.class, 2));
+        long replicaHits = hitCount(Product.class) - productHits;
+        inTransaction(false, () -> entityManager.find(Product.class, 2));
+        inTransaction(true, () -> entityManager.find(Product.class, 2));
+        
+        // Assert
+        assertEquals(0, replicaHits);
+        assertEquals(productHits + 1, hitCount(Product.class));
+    }
+}
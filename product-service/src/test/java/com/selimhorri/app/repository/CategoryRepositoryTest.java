@@ -0,0 +1,63 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.selimhorri.app.domain.Category;
+
+@DataJpaTest
+public class CategoryRepositoryTest {
+    
+    @Autowired
+    private CategoryRepository categoryRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Test
+    @DisplayName("Test seeded categories get their materialized path from the migration")
+    public void testFindAllByOrderByCategoryIdAsc() {
+        // Act
+        List<Category> categories = categoryRepository.findAllByOrderByCategoryIdAsc();
+        
+        // Assert
+        assertEquals(List.of("/1/", "/2/", "/3/"), categories.stream()
+                .map(Category::getCategoryPath)
+                .collect(Collectors.toList()));
+    }
+    
+    @Test
+    @DisplayName("Test updateCategoryPathPrefix rewrites the paths of a whole subtree")
+    public void testUpdateCategoryPathPrefix() {
+        // Arrange
+        Category laptop = categoryRepository.save(Category.builder()
+                .categoryTitle("Laptop")
+                .parentCategory(categoryRepository.getById(1))
+                .build());
+        laptop.setCategoryPath("/1/" + laptop.getCategoryId() + "/");
+        Category gaming = categoryRepository.save(Category.builder()
+                .categoryTitle("Gaming")
+                .parentCategory(laptop)
+                .build());
+        gaming.setCategoryPath(laptop.getCategoryPath() + gaming.getCategoryId() + "/");
+        
+        // Act
+        int updated = categoryRepository.updateCategoryPathPrefix("/1/", "/2/1/");
+        entityManager.clear();
+        
+        // Assert
+        assertEquals(3, updated);
+        assertEquals("/2/1/" + laptop.getCategoryId() + "/" + gaming.getCategoryId() + "/", 
+                categoryRepository.findById(gaming.getCategoryId()).get().getCategoryPath());
+        assertEquals("/2/", categoryRepository.findById(2).get().getCategoryPath());
+    }
+}
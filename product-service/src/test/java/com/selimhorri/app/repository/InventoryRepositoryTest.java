@@ -0,0 +1,139 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import(InventoryRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class InventoryRepositoryTest {
+    
+    @Autowired
+    private InventoryRepository inventoryRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @AfterEach
+    public void restoreStock() {
+        jdbcTemplate.update("UPDATE products SET quantity = 50, leased_quantity = 0 WHERE product_id IN (1, 2)");
+    }
+    
+    private int quantity(final Integer productId) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM products WHERE product_id = ?", Integer.class, productId);
+    }
+    
+    @Test
+    @DisplayName("Test decrementAll reports the line the stock cannot cover and leaves its row untouched")
+    public void testDecrementAll_WhenStockIsShort() {
+        // Act
+        int[] updateCounts = new TransactionTemplate(transactionManager).execute(status -> inventoryRepository
+                .decrementAll(new TreeMap<>(Map.of(1, 5, 2, 51, 999, 1))));
+        
+        // Assert
+        assertArrayEquals(new int[] {1, 0, 0}, updateCounts);
+        assertEquals(45, quantity(1));
+        assertEquals(50, quantity(2));
+    }
+    
+    @Test
+    @DisplayName("Test adjust applies a delta and refuses one that would take the stock below zero")
+    public void testAdjust() {
+        // Act
+        int added = inventoryRepository.adjust(1, 5);
+        int removed = inventoryRepository.adjust(1, -55);
+        int refused = inventoryRepository.adjust(2, -51);
+        
+        // Assert
+        assertEquals(1, added);
+        assertEquals(1, removed);
+        assertEquals(0, refused);
+        assertEquals(0, quantity(1));
+        assertEquals(50, quantity(2));
+    }
+    
+    @Test
+    @DisplayName("Test leased units stay in the total but neither row reservations nor adjustments can take them")
+    public void testLeaseAll() {
+        // Act
+        int[] leased = inventoryRepository.leaseAll(new TreeMap<>(Map.of(1, 40, 2, 51)));
+        int[] reserved = inventoryRepository.decrementAll(new TreeMap<>(Map.of(1, 11)));
+        int adjusted = inventoryRepository.adjust(1, -11);
+        Map<Integer, Integer> available = inventoryRepository.findAvailable(List.of(1, 2));
+        
+        // Assert
+        assertArrayEquals(new int[] {1, 0}, leased);
+        assertArrayEquals(new int[] {0}, reserved);
+        assertEquals(0, adjusted);
+        assertEquals(Map.of(1, 10, 2, 50), available);
+        assertEquals(50, quantity(1));
+    }
+    
+    @Test
+    @DisplayName("Test settleAll takes sales out of the total and the lease, returnAll frees the rest of the lease")
+    public void testSettleAll() {
+        // Arrange
+        inventoryRepository.leaseAll(new TreeMap<>(Map.of(1, 40)));
+        
+        // Act
+        inventoryRepository.settleAll(new TreeMap<>(Map.of(1, 15)));
+        inventoryRepository.returnAll(new TreeMap<>(Map.of(1, 25)));
+        
+        // Assert
+        assertEquals(35, quantity(1));
+        assertEquals(Map.of(1, 35), inventoryRepository.findAvailable(List.of(1)));
+    }
+    
+    @Test
+    @DisplayName("Test concurrent decrements on a hot product never oversell")
+    public void testDecrementAll_WhenConcurrent() throws Exception {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Callable<Integer> reserveOne = () -> transactionTemplate.execute(status -> inventoryRepository
+                .decrementAll(new TreeMap<>(Map.of(1, 1)))[0]);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(reserveOne);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        
+        // Act
+        int reserved = 0;
+        try {
+            for (Future<Integer> future : executorService.invokeAll(tasks)) {
+                reserved += future.get();
+            }
+        }
+        finally {
+            executorService.shutdown();
+        }
+        
+        // Assert
+        assertEquals(50, reserved);
+        assertEquals(0, quantity(1));
+    }
+}
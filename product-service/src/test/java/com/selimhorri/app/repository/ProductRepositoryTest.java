@@ -0,0 +1,212 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.request.ProductFilter;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.helper.ProductSpecificationHelper;
+
+@DataJpaTest
+public class ProductRepositoryTest {
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private List<ProductDto> findAllByProductIdInAndMap(final Set<Integer> productIds) {
+        return new TransactionTemplate(transactionManager).execute(status -> productRepository
+                .findAllByProductIdIn(productIds)
+                .stream()
+                .map(ProductMappingHelper::map)
+                .collect(Collectors.toList()));
+    }
+    
+    @Test
+    @DisplayName("Test findAllByProductIdIn loads products with their category id")
+    public void testFindAllByProductIdIn() {
+        // Arrange
+        entityManager.clear();
+        
+        // Act
+        List<Product> products = productRepository.findAllByProductIdIn(Set.of(1, 3, 999));
+        
+        // Assert
+        assertEquals(Set.of(1, 3), products.stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toSet()));
+        assertEquals(Set.of(1, 2), products.stream()
+                .map(p -> p.getCategory().getCategoryId())
+                .collect(Collectors.toSet()));
+    }
+    
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Test findAllByProductIdIn resolves categories from the second-level cache")
+    public void testFindAllByProductIdIn_UsesSecondLevelCache() {
+        // Arrange
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        findAllByProductIdInAndMap(Set.of(1, 2, 3, 4));
+        statistics.clear();
+        
+        // Act
+        List<ProductDto> products = findAllByProductIdInAndMap(Set.of(1, 2, 3, 4));
+        
+        // Assert
+        assertEquals(4, products.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(Category.class.getName()).getLoadCount());
+        assertTrue(statistics.getDomainDataRegionStatistics(Category.class.getName()).getHitCount() > 0);
+    }
+    
+    @Test
+    @DisplayName("Test findByProductIdGreaterThan maps a page with categories in constant statements whatever its size")
+    public void testFindByProductIdGreaterThanOrderByProductIdAsc_ConstantStatements() {
+        // Arrange
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        
+        // Act & Assert
+        for (int limit : new int[] {1, 4}) {
+            entityManager.clear();
+            entityManager.getEntityManagerFactory().getCache().evictAll();
+            statistics.clear();
+            List<ProductDto> products = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(0, PageRequest.of(0, limit))
+                    .stream()
+                    .map(ProductMappingHelper::map)
+                    .collect(Collectors.toList());
+            assertEquals(limit, products.size());
+            // the page itself, then every category of the page in one batch
+            assertEquals(2, statistics.getPrepareStatementCount());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test findAllByProductIdIn when no id matches")
+    public void testFindAllByProductIdIn_WhenNoneExist() {
+        // Act
+        List<Product> products = productRepository.findAllByProductIdIn(Set.of(998, 999));
+        
+        // Assert
+        assertTrue(products.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Test findByProductIdGreaterThanOrderByProductIdAsc returns the page after the cursor")
+    public void testFindByProductIdGreaterThanOrderByProductIdAsc() {
+        // Act
+        List<Product> products = productRepository.findByProductIdGreaterThanOrderByProductIdAsc(1, PageRequest.of(0, 2));
+        
+        // Assert
+        assertEquals(List.of(2, 3), products.stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toList()));
+    }
+    
+    @Test
+    @DisplayName("Test findAll by specification applies category, stock and title prefix criteria")
+    public void testFindAll_WithFilter() {
+        // Arrange
+        entityManager.clear();
+        ProductFilter filter = ProductFilter.builder()
+                .categoryId(1)
+                .inStock(true)
+                .titlePrefix("as")
+                .build();
+        
+        // Act
+        Page<Product> products = productRepository.findAll(ProductSpecificationHelper.of(filter), 
+                PageRequest.of(0, 10, Sort.by("productId")));
+        
+        // Assert
+        assertEquals(List.of(1), products.getContent().stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toList()));
+        assertEquals(1, products.getContent().get(0).getCategory().getCategoryId());
+    }
+    
+    @Test
+    @DisplayName("Test findAll by specification pages and sorts within a price range")
+    public void testFindAll_WithPriceRangeAndPaging() {
+        // Arrange
+        ProductFilter filter = ProductFilter.builder()
+                .minPrice(0.0)
+                .maxPrice(10.0)
+                .build();
+        
+        // Act
+        Page<Product> products = productRepository.findAll(ProductSpecificationHelper.of(filter), 
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "productId")));
+        
+        // Assert
+        assertEquals(4, products.getTotalElements());
+        assertEquals(List.of(2, 1), products.getContent().stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toList()));
+    }
+    
+    @Test
+    @DisplayName("Test title prefix treats LIKE wildcards literally")
+    public void testFindAll_WithWildcardTitlePrefix() {
+        // Act
+        Page<Product> products = productRepository.findAll(ProductSpecificationHelper.of(
+                ProductFilter.builder().titlePrefix("%").build()), PageRequest.of(0, 10));
+        
+        // Assert
+        assertTrue(products.isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Test new products take consecutive ids from the pooled sequence above the seeded rows")
+    public void testSaveAll_UsesPooledSequence() {
+        // Arrange
+        List<Product> products = List.of("a", "b", "c").stream()
+                .map(title -> Product.builder()
+                        .productTitle(title)
+                        .category(Category.builder().categoryId(1).build())
+                        .build())
+                .collect(Collectors.toList());
+        
+        // Act
+        List<Product> saved = productRepository.saveAll(products);
+        productRepository.flush();
+        
+        // Assert
+        int first = saved.get(0).getProductId();
+        assertTrue(first > 4);
+        assertEquals(List.of(first, first + 1, first + 2), saved.stream()
+                .map(Product::getProductId)
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,154 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.config.category.CategoryTreeProperties;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidCategoryParentException;
+import com.selimhorri.app.repository.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryServiceImplTest {
+    
+    @Mock
+    private CategoryRepository categoryRepository;
+    
+    // a SessionFactory is the EntityManagerFactory the service unwraps
+    @Mock
+    private SessionFactory entityManagerFactory;
+    
+    @Mock
+    private Cache cache;
+    
+    @Spy
+    private CategoryTreeProperties categoryTreeProperties = new CategoryTreeProperties();
+    
+    @InjectMocks
+    private CategoryServiceImpl categoryService;
+    
+    private List<Category> categories;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        categories = List.of(
+                Category.builder().categoryId(1).categoryTitle("Computer").categoryPath("/1/").build(),
+                Category.builder().categoryId(2).categoryTitle("Mode").categoryPath("/2/").build(),
+                Category.builder().categoryId(4).categoryTitle("Laptop").categoryPath("/1/4/").build());
+    }
+    
+    private void stubCacheEviction() {
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(entityManagerFactory);
+    }
+    
+    @Test
+    @DisplayName("Test findTree nests categories by path and serves repeated reads from the snapshot")
+    public void testFindTree_UsesSnapshot() {
+        // Arrange
+        when(categoryRepository.findAllByOrderByCategoryIdAsc()).thenReturn(categories);
+        
+        // Act
+        DtoCollectionResponse<CategoryDto> first = categoryService.findTree();
+        DtoCollectionResponse<CategoryDto> second = categoryService.findTree();
+        
+        // Assert
+        assertSame(first, second);
+        assertEquals(List.of(1, 2), first.getCollection().stream()
+                .map(CategoryDto::getCategoryId)
+                .collect(Collectors.toList()));
+        assertEquals(4, first.getCollection().iterator().next()
+                .getSubCategoriesDtos().iterator().next().getCategoryId());
+        verify(categoryRepository, times(1)).findAllByOrderByCategoryIdAsc();
+    }
+    
+    @Test
+    @DisplayName("Test findTree rebuilds a snapshot older than the max age, so writes on other nodes show up")
+    public void testFindTree_WhenSnapshotExpired() {
+        // Arrange
+        categoryTreeProperties.setMaxAge(Duration.ZERO);
+        when(categoryRepository.findAllByOrderByCategoryIdAsc()).thenReturn(categories);
+        
+        // Act
+        DtoCollectionResponse<CategoryDto> first = categoryService.findTree();
+        DtoCollectionResponse<CategoryDto> second = categoryService.findTree();
+        
+        // Assert
+        assertNotSame(first, second);
+        verify(categoryRepository, times(2)).findAllByOrderByCategoryIdAsc();
+    }
+    
+    @Test
+    @DisplayName("Test saving a category rebuilds the tree snapshot on the next read")
+    public void testFindTree_WhenCategorySaved() {
+        // Arrange
+        stubCacheEviction();
+        when(categoryRepository.findAllByOrderByCategoryIdAsc()).thenReturn(categories);
+        when(categoryRepository.findById(1)).thenReturn(Optional.of(categories.get(0)));
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> {
+            Category category = invocation.getArgument(0);
+            category.setCategoryId(5);
+            return category;
+        });
+        categoryService.findTree();
+        
+        // Act
+        CategoryDto saved = categoryService.save(CategoryDto.builder()
+                .categoryTitle("Desktop")
+                .parentCategoryDto(CategoryDto.builder().categoryId(1).build())
+                .build());
+        categoryService.findTree();
+        
+        // Assert
+        assertEquals(5, saved.getCategoryId());
+        verify(categoryRepository, times(2)).findAllByOrderByCategoryIdAsc();
+        verify(cache).evict(Category.class);
+        verify(cache).evictDefaultQueryRegion();
+    }
+    
+    @Test
+    @DisplayName("Test a category cannot be moved under one of its own subcategories")
+    public void testUpdate_WhenParentIsDescendant() {
+        // Arrange
+        stubCacheEviction();
+        when(categoryRepository.findById(1)).thenReturn(Optional.of(categories.get(0)));
+        when(categoryRepository.findById(4)).thenReturn(Optional.of(categories.get(2)));
+        
+        // Act & Assert
+        assertThrows(InvalidCategoryParentException.class, () -> {
+            categoryService.update(CategoryDto.builder()
+                    .categoryId(1)
+                    .categoryTitle("Computer")
+                    .parentCategoryDto(CategoryDto.builder().categoryId(4).build())
+                    .build());
+        });
+        
+        verify(categoryRepository, never()).save(any(Category.class));
+    }
+}
@@ -0,0 +1,289 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.stock.HotStockProperties;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.repository.InventoryRepository;
+import com.selimhorri.app.stock.StockJournal;
+import com.selimhorri.app.stock.StockJournal.Balance;
+import com.selimhorri.app.stock.StockJournal.Entry;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+public class HotStockServiceImplTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Mock
+    private InventoryRepository inventoryRepository;
+    
+    @Mock
+    private TransactionTemplate bulkTransactionTemplate;
+    
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Mock
+    private Cache cache;
+    
+    private Path journalPath;
+    private HotStockProperties hotStockProperties;
+    private HotStockServiceImpl hotStockService;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        // Setup test data
+        journalPath = directory.resolve("hot-stock.journal");
+        hotStockProperties = new HotStockProperties();
+        hotStockProperties.setEnabled(true);
+        hotStockProperties.setProductIds(Set.of(1));
+        hotStockProperties.setStripes(2);
+        hotStockProperties.setLeaseSize(10);
+        hotStockProperties.setJournalPath(journalPath.toString());
+        hotStockService = new HotStockServiceImpl(hotStockProperties, inventoryRepository,
+                bulkTransactionTemplate, entityManagerFactory);
+        
+        lenient().when(bulkTransactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(entityManagerFactory.getCache()).thenReturn(cache);
+    }
+    
+    @AfterEach
+    public void teardown() throws Exception {
+        hotStockService.drain();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    @DisplayName("Test recover serves held units again, writes pending sales back and returns unflagged units")
+    public void testRecover() throws Exception {
+        // Arrange
+        try (StockJournal journal = new StockJournal(journalPath)) {
+            journal.append(Entry.LEASE, 1, 30);
+            journal.append(Entry.TAKE, 1, 5);
+            journal.append(Entry.LEASE, 2, 7);
+        }
+        
+        // Act
+        hotStockService.recover();
+        
+        // Assert
+        verify(inventoryRepository).settleAll(new TreeMap<>(Map.of(1, 5)));
+        verify(inventoryRepository).returnAll(new TreeMap<>(Map.of(2, 7)));
+        verify(cache).evict(Product.class, 1);
+        assertTrue(hotStockService.tryTake(1, 25));
+        assertEquals(Map.of(1, new Balance(0, 25)), openBalances());
+    }
+    
+    @Test
+    @DisplayName("Test settle tops a counter up to the lease size without asking for more than the row has unleased")
+    public void testSettle_LeasesShortfall() throws Exception {
+        // Arrange
+        hotStockService.recover();
+        when(inventoryRepository.findAvailable(Set.of(1))).thenReturn(Map.of(1, 4));
+        when(inventoryRepository.leaseAll(new TreeMap<>(Map.of(1, 4)))).thenReturn(new int[] {1});
+        
+        // Act
+        hotStockService.settle();
+        
+        // Assert
+        assertTrue(hotStockService.tryTake(1, 4));
+        assertEquals(Map.of(1, new Balance(0, 4)), openBalances());
+    }
+    
+    @Test
+    @DisplayName("Test settle keeps nothing when the conditional lease misses on a concurrent change")
+    public void testSettle_WhenLeaseMisses() throws Exception {
+        // Arrange
+        hotStockService.recover();
+        when(inventoryRepository.findAvailable(Set.of(1))).thenReturn(Map.of(1, 100));
+        when(inventoryRepository.leaseAll(new TreeMap<>(Map.of(1, 10)))).thenReturn(new int[] {0});
+        
+        // Act
+        hotStockService.settle();
+        
+        // Assert
+        assertEquals(Map.of(), openBalances());
+    }
+    
+    @Test
+    @DisplayName("Test settle writes the sales of the interval back and trims a counter above twice the lease size")
+    public void testSettle_WritesSalesBackAndTrimsSurplus() throws Exception {
+        // Arrange
+        recoverHolding(40);
+        assertTrue(hotStockService.tryTake(1, 3));
+        
+        // Act
+        hotStockService.settle();
+        
+        // Assert
+        verify(inventoryRepository).settleAll(new TreeMap<>(Map.of(1, 3)));
+        verify(inventoryRepository).returnAll(new TreeMap<>(Map.of(1, 27)));
+        verify(inventoryRepository, never()).leaseAll(any());
+        verify(cache).evict(Product.class, 1);
+        assertEquals(Map.of(1, new Balance(10, 0)), openBalances());
+    }
+    
+    @Test
+    @DisplayName("Test settle keeps the units and the pending sales when writing them back fails")
+    public void testSettle_WhenWriteBackFails() throws Exception {
+        // Arrange
+        recoverHolding(30);
+        when(inventoryRepository.returnAll(any())).thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(new int[] {1});
+        
+        // Act & Assert
+        assertThrows(QueryTimeoutException.class, () -> {
+            hotStockService.settle();
+        });
+        
+        assertTrue(hotStockService.tryTake(1, 30));
+        assertEquals(Map.of(1, new Balance(0, 30)), openBalances());
+    }
+    
+    @Test
+    @DisplayName("Test a take is put back when its transaction rolls back and kept when it commits")
+    public void testTryTake_WhenTransactionCompletes() throws Exception {
+        // Arrange
+        recoverHolding(10);
+        
+        // Act
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(hotStockService.tryTake(1, 4));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(hotStockService.tryTake(1, 6));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        
+        // Assert
+        assertTrue(hotStockService.tryTake(1, 4));
+        assertEquals(Map.of(1, new Balance(0, 10)), openBalances());
+    }
+    
+    @Test
+    @DisplayName("Test drain writes the sales back, returns every held unit and leaves an empty journal")
+    public void testDrain() throws Exception {
+        // Arrange
+        recoverHolding(10);
+        assertTrue(hotStockService.tryTake(1, 3));
+        
+        // Act
+        hotStockService.drain();
+        
+        // Assert
+        verify(inventoryRepository).settleAll(new TreeMap<>(Map.of(1, 3)));
+        verify(inventoryRepository).returnAll(new TreeMap<>(Map.of(1, 7)));
+        assertFalse(hotStockService.tryTake(1, 1));
+        assertEquals(Map.of(), openBalances());
+    }
+    
+    @Test
+    @DisplayName("Test concurrent takes on one hot product keep tens of thousands per second with every take forced to disk")
+    public void testTryTake_Throughput() throws Exception {
+        // Arrange
+        // a checkout burst, each force is shared by the takes that queued behind the previous one
+        final int threads = 32;
+        final int takesPerThread = 6_250;
+        hotStockProperties.setLeaseSize(threads * takesPerThread);
+        recoverHolding(threads * takesPerThread);
+        Callable<Integer> taker = () -> {
+            int taken = 0;
+            for (int i = 0; i < takesPerThread; i++) {
+                if (hotStockService.tryTake(1, 1)) {
+                    taken++;
+                }
+            }
+            return taken;
+        };
+        List<Callable<Integer>> takers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            takers.add(taker);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        
+        // Act
+        int taken = 0;
+        long started = System.nanoTime();
+        try {
+            for (Future<Integer> future : executorService.invokeAll(takers)) {
+                taken += future.get();
+            }
+        }
+        finally {
+            executorService.shutdown();
+        }
+        double takesPerSecond = taken / ((System.nanoTime() - started) / 1e9);
+        log.info("*** {} journaled takes at {} per second *", taken, Math.round(takesPerSecond));
+        
+        // Assert
+        assertEquals(threads * takesPerThread, taken);
+        assertTrue(takesPerSecond > 20_000);
+        assertEquals(Map.of(1, new Balance(0, threads * takesPerThread)), openBalances());
+    }
+    
+    private static void complete(final int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+    
+    private void recoverHolding(final int held) throws Exception {
+        try (StockJournal journal = new StockJournal(journalPath)) {
+            journal.append(Entry.LEASE, 1, held);
+        }
+        hotStockService.recover();
+    }
+    
+    // replays the file as a restarted node would, so only what reached it counts
+    private Map<Integer, Balance> openBalances() throws Exception {
+        try (StockJournal journal = new StockJournal(journalPath)) {
+            return journal.balances();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.bulk.BulkProperties;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.request.ProductFilter;
+import com.selimhorri.app.dto.response.bulk.BulkResponse;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.repository.InventoryRepository;
+import com.selimhorri.app.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductServiceImplTest {
+    
+    @Mock
+    private ProductRepository productRepository;
+    
+    @Mock
+    private InventoryRepository inventoryRepository;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    @Mock
+    private TransactionTemplate bulkTransactionTemplate;
+    
+    @Spy
+    private BulkProperties bulkProperties = new BulkProperties();
+    
+    @InjectMocks
+    private ProductServiceImpl productService;
+    
+    @Test
+    @DisplayName("Test search drops unsortable properties, caps the page size and adds the id tiebreaker")
+    @SuppressWarnings("unchecked")
+    public void testSearch_SanitizesPageable() {
+        // Arrange
+        Product product = Product.builder().productId(1).productTitle("asus")
+                .category(Category.builder().categoryId(1).build()).build();
+        when(productRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(product)));
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        
+        // Act
+        DtoCollectionResponse<ProductDto> result = productService.search(new ProductFilter(), 
+                PageRequest.of(0, 5000, Sort.by("imageUrl").and(Sort.by(Sort.Direction.DESC, "priceUnit"))));
+        
+        // Assert
+        verify(productRepository).findAll(any(Specification.class), captor.capture());
+        assertEquals(1000, captor.getValue().getPageSize());
+        assertEquals(Sort.by(Sort.Direction.DESC, "priceUnit").and(Sort.by("productId")), captor.getValue().getSort());
+        assertEquals(1, result.getCollection().size());
+        assertNull(result.getNextCursor());
+    }
+    
+    @Test
+    @DisplayName("Test search returns the next page number while more rows follow")
+    @SuppressWarnings("unchecked")
+    public void testSearch_WhenMoreRowsFollow() {
+        // Arrange
+        Product product = Product.builder().productId(1).productTitle("asus")
+                .category(Category.builder().categoryId(1).build()).build();
+        Page<Product> page = new PageImpl<>(List.of(product), PageRequest.of(0, 1), 3);
+        when(productRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
+        
+        // Act
+        DtoCollectionResponse<ProductDto> result = productService.search(new ProductFilter(), PageRequest.of(0, 1));
+        
+        // Assert
+        assertEquals("1", result.getNextCursor());
+    }
+    
+    @Test
+    @DisplayName("Test saveAll reports invalid items and writes the rest one chunk per transaction")
+    public void testSaveAll_ReportsInvalidItems() {
+        // Arrange
+        bulkProperties.setChunkSize(2);
+        stubTransactionTemplate();
+        List<ProductDto> productDtos = List.of(productDto(null, "asus", "sku-1"), productDto(null, " ", "sku-2"), 
+                productDto(null, "hp", "sku-3"), productDto(null, "dell", "sku-4"));
+        
+        // Act
+        BulkResponse result = productService.saveAll(productDtos);
+        
+        // Assert
+        assertEquals(3, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals("sku-2", result.getErrors().get(0).getSku());
+        verify(entityManager, times(3)).persist(any(Product.class));
+        verify(bulkTransactionTemplate, times(2)).execute(any());
+        verify(entityManager, times(2)).flush();
+    }
+    
+    @Test
+    @DisplayName("Test saveAll replays a rejected chunk item by item so only the culprit fails")
+    public void testSaveAll_IsolatesDatabaseErrors() {
+        // Arrange
+        stubTransactionTemplate();
+        doAnswer(invocation -> {
+            if ("dup".equals(invocation.<Product>getArgument(0).getSku())) {
+                throw new PersistenceException("duplicate sku");
+            }
+            return null;
+        }).when(entityManager).persist(any(Product.class));
+        List<ProductDto> productDtos = List.of(productDto(null, "asus", "sku-1"), productDto(null, "hp", "dup"), 
+                productDto(null, "dell", "sku-3"));
+        
+        // Act
+        BulkResponse result = productService.saveAll(productDtos);
+        
+        // Assert
+        assertEquals(2, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+        assertEquals("duplicate sku", result.getErrors().get(0).getMessage());
+    }
+    
+    @Test
+    @DisplayName("Test updateAll loads each chunk in one query, reports unknown ids and leaves stock alone")
+    public void testUpdateAll_ReportsUnknownIds() {
+        // Arrange
+        stubTransactionTemplate();
+        Product existing = Product.builder().productId(1).productTitle("asus").quantity(50)
+                .category(Category.builder().categoryId(1).build()).build();
+        when(productRepository.findAllById(Set.of(1, 99))).thenReturn(List.of(existing));
+        ProductDto update = productDto(1, "asus", "sku-1");
+        update.setQuantity(7);
+        
+        // Act
+        BulkResponse result = productService.updateAll(List.of(update, productDto(99, "ghost", "sku-99")));
+        
+        // Assert
+        assertEquals(1, result.getSucceeded());
+        assertEquals(99, result.getErrors().get(0).getProductId());
+        assertEquals(50, existing.getQuantity());
+        verify(productRepository, times(1)).findAllById(any());
+    }
+    
+    @Test
+    @DisplayName("Test update applies the product fields but keeps the stock it loaded")
+    public void testUpdate_KeepsQuantity() {
+        // Arrange
+        Product existing = Product.builder().productId(1).productTitle("asus").quantity(50)
+                .category(Category.builder().categoryId(1).build()).build();
+        when(productRepository.findById(1)).thenReturn(Optional.of(existing));
+        when(entityManager.getReference(Category.class, 2)).thenReturn(Category.builder().categoryId(2).build());
+        ProductDto update = productDto(1, "asus rog", "sku-1");
+        update.setQuantity(7);
+        update.getCategoryDto().setCategoryId(2);
+        
+        // Act
+        ProductDto result = productService.update(update);
+        
+        // Assert
+        assertEquals("asus rog", result.getProductTitle());
+        assertEquals(2, result.getCategoryDto().getCategoryId());
+        assertEquals(50, result.getQuantity());
+        assertEquals(50, existing.getQuantity());
+    }
+    
+    @Test
+    @DisplayName("Test adjustStock rejects a delta that would take the stock below zero")
+    public void testAdjustStock_WhenStockIsShort() {
+        // Arrange
+        when(inventoryRepository.adjust(1, -60)).thenReturn(0);
+        when(productRepository.existsById(1)).thenReturn(true);
+        
+        // Act & Assert
+        InsufficientStockException exception = assertThrows(InsufficientStockException.class, () -> {
+            productService.adjustStock(1, -60);
+        });
+        
+        assertEquals("Insufficient stock for products with ids: [1]", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Test adjustStock reports an unknown product")
+    public void testAdjustStock_WhenProductDoesNotExist() {
+        // Arrange
+        when(inventoryRepository.adjust(99, 5)).thenReturn(0);
+        when(productRepository.existsById(99)).thenReturn(false);
+        
+        // Act & Assert
+        assertThrows(ProductNotFoundException.class, () -> {
+            productService.adjustStock(99, 5);
+        });
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void stubTransactionTemplate() {
+        when(bulkTransactionTemplate.execute(any())).thenAnswer(invocation -> 
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+    
+    private static ProductDto productDto(final Integer productId, final String productTitle, final String sku) {
+        return ProductDto.builder()
+                .productId(productId)
+                .productTitle(productTitle)
+                .sku(sku)
+                .priceUnit(10.0)
+                .quantity(5)
+                .categoryDto(CategoryDto.builder().categoryId(1).build())
+                .build();
+    }
+}
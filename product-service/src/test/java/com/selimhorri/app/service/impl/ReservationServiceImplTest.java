@@ -0,0 +1,216 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.reservation.ReservationProperties;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.domain.Reservation;
+import com.selimhorri.app.domain.ReservationStatus;
+import com.selimhorri.app.dto.ReservationDto;
+import com.selimhorri.app.dto.request.ReservationLine;
+import com.selimhorri.app.dto.request.ReservationRequest;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.InvalidReservationStateException;
+import com.selimhorri.app.repository.InventoryRepository;
+import com.selimhorri.app.repository.ReservationRepository;
+import com.selimhorri.app.service.HotStockService;
+
+@ExtendWith(MockitoExtension.class)
+public class ReservationServiceImplTest {
+    
+    @Mock
+    private ReservationRepository reservationRepository;
+    
+    @Mock
+    private InventoryRepository inventoryRepository;
+    
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Mock
+    private Cache cache;
+    
+    @Mock
+    private TransactionTemplate bulkTransactionTemplate;
+    
+    @Mock
+    private HotStockService hotStockService;
+    
+    @Spy
+    private ReservationProperties reservationProperties = new ReservationProperties();
+    
+    @InjectMocks
+    private ReservationServiceImpl reservationService;
+    
+    @Test
+    @DisplayName("Test reserve merges lines per product and takes all stock in one batch")
+    @SuppressWarnings("unchecked")
+    public void testReserve_MergesLines() {
+        // Arrange
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(inventoryRepository.decrementAll(any())).thenReturn(new int[] {1, 1});
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ReservationRequest request = reservationRequest(7, line(2, 1), line(1, 2), line(2, 3));
+        
+        // Act
+        DtoCollectionResponse<ReservationDto> result = reservationService.reserve(request);
+        
+        // Assert
+        verify(inventoryRepository).decrementAll(new TreeMap<>(Map.of(1, 2, 2, 4)));
+        assertEquals(2, result.getCollection().size());
+        assertEquals(List.of(ReservationStatus.HELD, ReservationStatus.HELD), result.getCollection().stream()
+                .map(ReservationDto::getReservationStatus)
+                .collect(Collectors.toList()));
+        verify(cache).evict(Product.class, 1);
+        verify(cache).evict(Product.class, 2);
+    }
+    
+    @Test
+    @DisplayName("Test reserve leaves the rows of products served from in-memory stock alone")
+    public void testReserve_WhenProductIsHot() {
+        // Arrange
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(hotStockService.tryTake(1, 2)).thenReturn(true);
+        when(inventoryRepository.decrementAll(any())).thenReturn(new int[] {1});
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ReservationRequest request = reservationRequest(7, line(1, 2), line(2, 3));
+        
+        // Act
+        DtoCollectionResponse<ReservationDto> result = reservationService.reserve(request);
+        
+        // Assert
+        verify(inventoryRepository).decrementAll(new TreeMap<>(Map.of(2, 3)));
+        assertEquals(2, result.getCollection().size());
+        verify(cache, never()).evict(Product.class, 1);
+        verify(cache).evict(Product.class, 2);
+    }
+    
+    @Test
+    @DisplayName("Test reserve fails as a whole when one line is not covered by stock")
+    public void testReserve_WhenStockIsShort() {
+        // Arrange
+        when(inventoryRepository.decrementAll(any())).thenReturn(new int[] {1, 0});
+        ReservationRequest request = reservationRequest(7, line(1, 2), line(2, 100));
+        
+        // Act & Assert
+        InsufficientStockException exception = assertThrows(InsufficientStockException.class, () -> {
+            reservationService.reserve(request);
+        });
+        
+        assertEquals("Insufficient stock for products with ids: [2]", exception.getMessage());
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+    
+    @Test
+    @DisplayName("Test confirm rejects a hold past its deadline")
+    public void testConfirm_WhenHoldExpired() {
+        // Arrange
+        Reservation reservation = reservation(1, ReservationStatus.HELD, Instant.now().minusSeconds(1));
+        when(reservationRepository.findAllByOrderIdOrderByProductIdAsc(7)).thenReturn(List.of(reservation));
+        
+        // Act & Assert
+        assertThrows(InvalidReservationStateException.class, () -> {
+            reservationService.confirm(7);
+        });
+        
+        verify(reservationRepository, never()).flush();
+    }
+    
+    @Test
+    @DisplayName("Test release returns the stock of held lines only")
+    public void testRelease_RestocksHeldLines() {
+        // Arrange
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        Reservation held = reservation(1, ReservationStatus.HELD, expiresAt);
+        Reservation expired = reservation(2, ReservationStatus.EXPIRED, expiresAt);
+        when(reservationRepository.findAllByOrderIdOrderByProductIdAsc(7)).thenReturn(List.of(held, expired));
+        
+        // Act
+        reservationService.release(7);
+        
+        // Assert
+        assertEquals(ReservationStatus.RELEASED, held.getReservationStatus());
+        assertEquals(ReservationStatus.EXPIRED, expired.getReservationStatus());
+        verify(inventoryRepository).incrementAll(new TreeMap<>(Map.of(1, 3)));
+    }
+    
+    @Test
+    @DisplayName("Test expireStaleHolds sweeps one batch per transaction until a short batch")
+    @SuppressWarnings("unchecked")
+    public void testExpireStaleHolds() {
+        // Arrange
+        reservationProperties.setExpiryBatchSize(2);
+        when(entityManagerFactory.getCache()).thenReturn(cache);
+        when(bulkTransactionTemplate.execute(any())).thenAnswer(invocation -> 
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        Instant expiresAt = Instant.now().minusSeconds(60);
+        when(reservationRepository.findByReservationStatusAndExpiresAtBeforeOrderByReservationIdAsc(
+                eq(ReservationStatus.HELD), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(reservation(1, ReservationStatus.HELD, expiresAt), reservation(1, ReservationStatus.HELD, expiresAt)))
+                .thenReturn(List.of(reservation(2, ReservationStatus.HELD, expiresAt)));
+        
+        // Act
+        int expired = reservationService.expireStaleHolds();
+        
+        // Assert
+        assertEquals(3, expired);
+        verify(bulkTransactionTemplate, times(2)).execute(any());
+        verify(inventoryRepository).incrementAll(new TreeMap<>(Map.of(1, 6)));
+        verify(inventoryRepository).incrementAll(new TreeMap<>(Map.of(2, 3)));
+    }
+    
+    private static ReservationRequest reservationRequest(final Integer orderId, final ReservationLine... lines) {
+        return ReservationRequest.builder()
+                .orderId(orderId)
+                .lines(List.of(lines))
+                .build();
+    }
+    
+    private static ReservationLine line(final Integer productId, final Integer quantity) {
+        return ReservationLine.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+    
+    private static Reservation reservation(final Integer productId, final ReservationStatus reservationStatus, 
+            final Instant expiresAt) {
+        return Reservation.builder()
+                .orderId(7)
+                .productId(productId)
+                .quantity(3)
+                .reservationStatus(reservationStatus)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
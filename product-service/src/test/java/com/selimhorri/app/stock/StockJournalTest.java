@@ -0,0 +1,120 @@
+package com.selimhorri.app.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.selimhorri.app.stock.StockJournal.Balance;
+import com.selimhorri.app.stock.StockJournal.Entry;
+
+public class StockJournalTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    @DisplayName("Test reopening the journal replays the units still held per product")
+    public void testBalances_AfterReopen() throws Exception {
+        // Arrange
+        Path path = directory.resolve("hot-stock.journal");
+        try (StockJournal journal = new StockJournal(path)) {
+            journal.append(Entry.LEASE, 1, 100);
+            journal.append(Entry.TAKE, 1, 30);
+            journal.append(Entry.PUT, 1, 5);
+            journal.append(Entry.SETTLE, 1, 20);
+            journal.append(Entry.LEASE, 2, 50);
+            journal.append(Entry.RETURN, 2, 50);
+        }
+        
+        // Act
+        Map<Integer, Balance> balances;
+        try (StockJournal journal = new StockJournal(path)) {
+            balances = journal.balances();
+        }
+        
+        // Assert
+        assertEquals(new Balance(75, 5), balances.get(1));
+        assertEquals(new Balance(0, 0), balances.get(2));
+    }
+    
+    @Test
+    @DisplayName("Test a torn record at the tail is dropped and later appends stay aligned")
+    public void testBalances_WhenTailIsTorn() throws Exception {
+        // Arrange
+        Path path = directory.resolve("hot-stock.journal");
+        try (StockJournal journal = new StockJournal(path)) {
+            journal.append(Entry.LEASE, 1, 100);
+        }
+        Files.write(path, new byte[] { 2, 0, 0 }, StandardOpenOption.APPEND);
+        
+        // Act
+        try (StockJournal journal = new StockJournal(path)) {
+            journal.append(Entry.TAKE, 1, 10);
+        }
+        Map<Integer, Balance> balances;
+        try (StockJournal journal = new StockJournal(path)) {
+            balances = journal.balances();
+        }
+        
+        // Assert
+        assertEquals(new Balance(90, 10), balances.get(1));
+    }
+    
+    @Test
+    @DisplayName("Test compact rewrites the journal as one record per balance left")
+    public void testCompact() throws Exception {
+        // Arrange
+        Path path = directory.resolve("hot-stock.journal");
+        try (StockJournal journal = new StockJournal(path)) {
+            for (int i = 0; i < 100; i++) {
+                journal.append(Entry.LEASE, 1, 10);
+                journal.append(Entry.TAKE, 1, 9);
+            }
+            journal.append(Entry.SETTLE, 1, 850);
+            journal.append(Entry.LEASE, 2, 20);
+            journal.append(Entry.RETURN, 2, 20);
+            journal.force();
+            long before = Files.size(path);
+            
+            // Act
+            journal.await(journal.append(Entry.TAKE, 1, 50));
+            journal.compact();
+            
+            // Assert
+            assertTrue(Files.size(path) < before);
+        }
+        try (StockJournal journal = new StockJournal(path)) {
+            assertEquals(Map.of(1, new Balance(50, 100)), journal.balances());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test await hands every record buffered so far to the file in one write")
+    public void testAwait_GroupsBufferedRecords() throws Exception {
+        // Arrange
+        Path path = directory.resolve("hot-stock.journal");
+        try (StockJournal journal = new StockJournal(path)) {
+            long first = journal.append(Entry.TAKE, 1, 1);
+            journal.append(Entry.TAKE, 1, 2);
+            long third = journal.append(Entry.TAKE, 1, 3);
+            
+            // Act
+            journal.await(first);
+            long afterFirst = Files.size(path);
+            journal.append(Entry.TAKE, 1, 4);
+            journal.await(third);
+            
+            // Assert
+            assertEquals(27, afterFirst);
+            assertEquals(27, Files.size(path));
+        }
+    }
+}
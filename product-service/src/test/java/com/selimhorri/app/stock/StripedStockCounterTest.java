@@ -0,0 +1,80 @@
+package com.selimhorri.app.stock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class StripedStockCounterTest {
+    
+    @Test
+    @DisplayName("Test tryTake pulls stock over from other cells once the home cell runs dry")
+    public void testTryTake_Rebalances() throws Exception {
+        // Arrange
+        StripedStockCounter counter = new StripedStockCounter(4);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 4; i++) {
+                executorService.submit(() -> counter.put(5)).get();
+            }
+            
+            // Act
+            boolean taken = counter.tryTake(12);
+            
+            // Assert
+            assertTrue(taken);
+            assertEquals(8, counter.sum());
+            assertFalse(counter.tryTake(9));
+            assertEquals(8, counter.sum());
+        }
+        finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Test concurrent takes never sell more than the counter holds")
+    public void testTryTake_WhenConcurrent() throws Exception {
+        // Arrange
+        StripedStockCounter counter = new StripedStockCounter(8);
+        counter.put(100_000);
+        Callable<Integer> taker = () -> {
+            int taken = 0;
+            while (counter.sum() > 0) {
+                if (counter.tryTake(1)) {
+                    taken++;
+                }
+            }
+            return taken;
+        };
+        List<Callable<Integer>> takers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            takers.add(taker);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        
+        // Act
+        int taken = 0;
+        try {
+            for (Future<Integer> future : executorService.invokeAll(takers)) {
+                taken += future.get();
+            }
+        }
+        finally {
+            executorService.shutdown();
+        }
+        
+        // Assert
+        assertEquals(0, counter.sum());
+        assertEquals(100_000, taken);
+    }
+}
@@ -1,5 +1,8 @@
 package com.selimhorri.app.business.auth.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -14,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 import com.selimhorri.app.business.auth.service.AuthenticationService;
+import com.selimhorri.app.business.auth.service.LoginThrottleService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,14 +29,18 @@ import lombok.extern.slf4j.Slf4j;
 public class AuthenticationController {
 	
 	private final AuthenticationService authenticationService;
+	private final LoginThrottleService loginThrottleService;
 	
 	@PostMapping
-	public ResponseEntity<AuthenticationResponse> authenticate(
+	public CompletableFuture<ResponseEntity<AuthenticationResponse>> authenticate(
 			@RequestBody 
 			@NotNull(message = "") 
-			@Valid final AuthenticationRequest authenticationRequest) {
+			@Valid final AuthenticationRequest authenticationRequest, 
+			final HttpServletRequest request) {
 		log.info("**Authentication controller, proceed with the request*\n");
-		return ResponseEntity.ok(this.authenticationService.authenticate(authenticationRequest));
+		this.loginThrottleService.acquire(authenticationRequest.getUsername(), request.getRemoteAddr());
+		return this.authenticationService.authenticate(authenticationRequest)
+				.thenApply(ResponseEntity::ok);
 	}
 	
 	@GetMapping("/jwt/{jwt}")
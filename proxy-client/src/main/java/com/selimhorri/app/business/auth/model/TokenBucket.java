@@ -0,0 +1,41 @@
+package com.selimhorri.app.business.auth.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+	
+	// GCRA form of a token bucket: the whole state is one theoretical arrival time, updated by CAS
+	private final AtomicLong theoreticalArrivalTime;
+	
+	public TokenBucket(final long nowNanos) {
+		this.theoreticalArrivalTime = new AtomicLong(nowNanos);
+	}
+	
+	// returns 0 when a token was taken, otherwise the nanos to wait until one is available
+	public long tryAcquire(final long nowNanos, final long refillNanos, final int capacity) {
+		while (true) {
+			final long current = this.theoreticalArrivalTime.get();
+			final long next = Math.max(current, nowNanos) + refillNanos;
+			final long waitNanos = next - nowNanos - capacity * refillNanos;
+			if (waitNanos > 0) {
+				return waitNanos;
+			}
+			if (this.theoreticalArrivalTime.compareAndSet(current, next)) {
+				return 0L;
+			}
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
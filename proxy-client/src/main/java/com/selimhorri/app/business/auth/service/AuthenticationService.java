@@ -1,11 +1,13 @@
 package com.selimhorri.app.business.auth.service;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 
 public interface AuthenticationService {
 	
-	AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest);
+	CompletableFuture<AuthenticationResponse> authenticate(final AuthenticationRequest authenticationRequest);
 	Boolean authenticate(final String jwt);
 	
 }
@@ -0,0 +1,8 @@
+package com.selimhorri.app.business.auth.service;
+
+public interface CredentialCacheService {
+	
+	void evict(final String username);
+	void evict(final Integer credentialId);
+	
+}
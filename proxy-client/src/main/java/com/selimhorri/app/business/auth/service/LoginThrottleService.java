@@ -0,0 +1,7 @@
+package com.selimhorri.app.business.auth.service;
+
+public interface LoginThrottleService {
+	
+	void acquire(final String username, final String clientIp);
+	
+}
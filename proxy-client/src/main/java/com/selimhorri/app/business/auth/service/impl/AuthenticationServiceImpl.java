@@ -1,5 +1,9 @@
 package com.selimhorri.app.business.auth.service.impl;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -9,26 +13,62 @@ import org.springframework.stereotype.Service;
 import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
 import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
 import com.selimhorri.app.business.auth.service.AuthenticationService;
+import com.selimhorri.app.config.encoder.PasswordVerificationProperties;
 import com.selimhorri.app.exception.wrapper.IllegalAuthenticationCredentialsException;
+import com.selimhorri.app.exception.wrapper.TooManyAuthenticationRequestsException;
 import com.selimhorri.app.jwt.service.JwtService;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class AuthenticationServiceImpl implements AuthenticationService {
 	
+	public static final String REJECTED_COUNTER = "auth.password.rejected";
+	
 	private final AuthenticationManager authenticationManager;
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final ThreadPoolExecutor passwordVerificationExecutor;
+	private final PasswordVerificationProperties passwordVerificationProperties;
+	private final Counter rejectedCounter;
+	
+	public AuthenticationServiceImpl(final AuthenticationManager authenticationManager, 
+			final UserDetailsService userDetailsService, 
+			final JwtService jwtService, 
+			final ThreadPoolExecutor passwordVerificationExecutor, 
+			final PasswordVerificationProperties passwordVerificationProperties, 
+			final MeterRegistry meterRegistry) {
+		this.authenticationManager = authenticationManager;
+		this.userDetailsService = userDetailsService;
+		this.jwtService = jwtService;
+		this.passwordVerificationExecutor = passwordVerificationExecutor;
+		this.passwordVerificationProperties = passwordVerificationProperties;
+		this.rejectedCounter = Counter.builder(REJECTED_COUNTER)
+				.description("Logins rejected because the password verification queue was full")
+				.register(meterRegistry);
+	}
 	
 	@Override
-	public AuthenticationResponse authenticate(final AuthenticationRequest authenticationRequest) {
+	public CompletableFuture<AuthenticationResponse> authenticate(final AuthenticationRequest authenticationRequest) {
 		
 		log.info("** AuthenticationResponse, authenticate user service*\n");
 		
+		try {
+			// BCrypt is CPU bound, keep it off request threads and cap how many run at once
+			return CompletableFuture.supplyAsync(() -> this.verify(authenticationRequest), this.passwordVerificationExecutor);
+		}
+		catch (RejectedExecutionException e) {
+			this.rejectedCounter.increment();
+			throw new TooManyAuthenticationRequestsException("#### Too many authentication requests, retry later! ####", 
+					this.passwordVerificationProperties.getRetryAfter(), e);
+		}
+	}
+	
+	private AuthenticationResponse verify(final AuthenticationRequest authenticationRequest) {
+		
 		try {
 			this.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
 					authenticationRequest.getUsername(), authenticationRequest.getPassword()));
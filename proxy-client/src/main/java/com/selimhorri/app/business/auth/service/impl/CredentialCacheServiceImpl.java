@@ -0,0 +1,57 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.business.auth.service.CredentialCacheService;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CredentialCacheServiceImpl implements CredentialCacheService {
+	
+	private final Cache<String, UserDetailsImpl> userDetailsCache;
+	private final TokenRevocationService tokenRevocationService;
+	
+	@Override
+	public void evict(final String username) {
+		log.info("**CredentialCache, evict cached credential by username*\n");
+		if (username != null) {
+			this.userDetailsCache.invalidate(username);
+			this.tokenRevocationService.revoke(username);
+		}
+	}
+	
+	@Override
+	public void evict(final Integer credentialId) {
+		log.info("**CredentialCache, evict cached credential by credentialId*\n");
+		if (credentialId != null) {
+			this.userDetailsCache.asMap().values()
+					.removeIf(u -> {
+						final boolean isMatching = credentialId.equals(u.getCredential().getCredentialId());
+						if (isMatching) {
+							this.tokenRevocationService.revoke(u.getUsername());
+						}
+						return isMatching;
+					});
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
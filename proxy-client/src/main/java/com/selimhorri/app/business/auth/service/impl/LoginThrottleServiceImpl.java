@@ -0,0 +1,78 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.business.auth.model.TokenBucket;
+import com.selimhorri.app.business.auth.service.LoginThrottleService;
+import com.selimhorri.app.config.throttle.LoginThrottleProperties;
+import com.selimhorri.app.exception.wrapper.TooManyAuthenticationRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class LoginThrottleServiceImpl implements LoginThrottleService {
+	
+	public static final String THROTTLED_COUNTER = "auth.login.throttled";
+	private static final String USERNAME_KEY_PREFIX = "username:";
+	private static final String IP_KEY_PREFIX = "ip:";
+	
+	private final Cache<String, TokenBucket> loginThrottleCache;
+	private final LoginThrottleProperties loginThrottleProperties;
+	private final Counter usernameThrottledCounter;
+	private final Counter ipThrottledCounter;
+	
+	public LoginThrottleServiceImpl(final Cache<String, TokenBucket> loginThrottleCache, 
+			final LoginThrottleProperties loginThrottleProperties, 
+			final MeterRegistry meterRegistry) {
+		this.loginThrottleCache = loginThrottleCache;
+		this.loginThrottleProperties = loginThrottleProperties;
+		this.usernameThrottledCounter = meterRegistry.counter(THROTTLED_COUNTER, "key", "username");
+		this.ipThrottledCounter = meterRegistry.counter(THROTTLED_COUNTER, "key", "ip");
+	}
+	
+	@Override
+	public void acquire(final String username, final String clientIp) {
+		if (!this.loginThrottleProperties.isEnabled()) {
+			return;
+		}
+		final long now = System.nanoTime();
+		if (clientIp != null) {
+			this.acquire(IP_KEY_PREFIX + clientIp, now, this.loginThrottleProperties.getIp(), this.ipThrottledCounter);
+		}
+		if (username != null) {
+			this.acquire(USERNAME_KEY_PREFIX + username.trim().toLowerCase(Locale.ROOT), now, 
+					this.loginThrottleProperties.getUsername(), this.usernameThrottledCounter);
+		}
+	}
+	
+	private void acquire(final String key, final long now, final LoginThrottleProperties.Limit limit, final Counter throttledCounter) {
+		final long waitNanos = this.loginThrottleCache.get(key, k -> new TokenBucket(now))
+				.tryAcquire(now, limit.getRefillPeriod().toNanos(), limit.getCapacity());
+		if (waitNanos > 0) {
+			log.info("**LoginThrottle, too many login attempts for {}*\n", key);
+			throttledCounter.increment();
+			throw new TooManyAuthenticationRequestsException("#### Too many login attempts, retry later! ####", 
+					Duration.ofNanos(waitNanos));
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,16 @@
 package com.selimhorri.app.business.auth.service.impl;
 
+import java.util.Optional;
+
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.UserDetailsImpl;
 import com.selimhorri.app.constant.AppConstant;
@@ -16,15 +21,49 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 	
 	private static final String API_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/credentials";
 	private final RestTemplate restTemplate;
+	private final Cache<String, UserDetailsImpl> userDetailsCache;
 	
 	@Override
 	public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
 		log.info("**UserDetails, load user by username*\n");
-		return new UserDetailsImpl(this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDto.class));
+		final UserDetails userDetails = this.userDetailsCache.get(username, this::fetchUserDetails);
+		if (userDetails == null) {
+			throw new UsernameNotFoundException(String.format("#### Credential with username: %s not found! ####", username));
+		}
+		return userDetails;
+	}
+	
+	private UserDetailsImpl fetchUserDetails(final String username) {
+		log.info("**UserDetails, cache miss, fetch credential from user-service*\n");
+		return Optional.ofNullable(this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDto.class))
+				.map(UserDetailsImpl::new)
+				.orElse(null);
+	}
+	
+	@Override
+	public UserDetails updatePassword(final UserDetails user, final String newPassword) {
+		log.info("**UserDetails, rehash password with the configured cost*\n");
+		if (!(user instanceof UserDetailsImpl)) {
+			return user;
+		}
+		final CredentialDto credentialDto = ((UserDetailsImpl) user).getCredential().toBuilder()
+				.password(newPassword)
+				.build();
+		try {
+			this.restTemplate.put(API_URL, credentialDto);
+		}
+		catch (RestClientException e) {
+			// keep the login working with the old hash, the rehash is retried on the next login
+			log.warn("**UserDetails, password rehash failed: {}*\n", e.getMessage());
+			return user;
+		}
+		final UserDetailsImpl userDetails = new UserDetailsImpl(credentialDto);
+		this.userDetailsCache.put(credentialDto.getUsername(), userDetails);
+		return userDetails;
 	}
 	
 	
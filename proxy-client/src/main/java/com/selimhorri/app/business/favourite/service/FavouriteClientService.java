@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.favourite.service;
 
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.favourite.model.FavouriteDto;
 import com.selimhorri.app.business.favourite.model.FavouriteId;
@@ -20,7 +23,10 @@ import com.selimhorri.app.business.favourite.model.response.FavouriteFavouriteSe
 public interface FavouriteClientService {
 	
 	@GetMapping
-	ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll();
+	ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			@RequestParam(name = "expand", required = false) final Set<String> expand);
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
 	public ResponseEntity<FavouriteDto> findById(
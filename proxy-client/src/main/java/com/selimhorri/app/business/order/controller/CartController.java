@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.order.controller;
 
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.order.model.CartDto;
@@ -28,8 +31,11 @@ public class CartController {
 	private final CartClientService cartClientService;
 	
 	@GetMapping
-	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.cartClientService.findAll().getBody());
+	public ResponseEntity<CartOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			@RequestParam(name = "expand", required = false) final Set<String> expand) {
+		return ResponseEntity.ok(this.cartClientService.findAll(after, limit, expand).getBody());
 	}
 	
 	@GetMapping("/{cartId}")
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.orderItem.controller;
 
+import java.util.Set;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.orderItem.model.OrderItemDto;
@@ -25,8 +28,11 @@ public class OrderItemController {
 	private final OrderItemClientService orderItemClientService;
 	
 	@GetMapping
-	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.orderItemClientService.findAll().getBody());
+	public ResponseEntity<OrderItemOrderItemServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			@RequestParam(name = "expand", required = false) final Set<String> expand) {
+		return ResponseEntity.ok(this.orderItemClientService.findAll(after, limit, expand).getBody());
 	}
 	
 	@GetMapping("/{orderId}/{productId}")
@@ -56,8 +62,8 @@ public class OrderItemController {
 	public ResponseEntity<Boolean> deleteById(
 			@PathVariable("orderId") final String orderId, 
 			@PathVariable("productId") final String productId) {
-		this.orderItemClientService.deleteById(new OrderItemId(Integer.parseInt(orderId), 
-				Integer.parseInt(productId))).getBody();
+		this.orderItemClientService.deleteById(new OrderItemId(Integer.parseInt(productId), 
+				Integer.parseInt(orderId))).getBody();
 		return ResponseEntity.ok(true);
 	}
 	
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.payment.controller;
 
+import java.util.Set;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.payment.model.PaymentDto;
@@ -24,8 +27,11 @@ public class PaymentController {
 	private final PaymentClientService paymentClientService;
 	
 	@GetMapping
-	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.paymentClientService.findAll().getBody());
+	public ResponseEntity<PaymentPaymentServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit, 
+			@RequestParam(name = "expand", required = false) final Set<String> expand) {
+		return ResponseEntity.ok(this.paymentClientService.findAll(after, limit, expand).getBody());
 	}
 	
 	@GetMapping("/{paymentId}")
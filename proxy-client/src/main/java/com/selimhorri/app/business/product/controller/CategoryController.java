@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
@@ -24,8 +25,15 @@ public class CategoryController {
 	private final CategoryClientService categoryClientService;
 	
 	@GetMapping
-	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		return ResponseEntity.ok(this.categoryClientService.findAll(after, limit).getBody());
+	}
+	
+	@GetMapping("/tree")
+	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findTree() {
+		return ResponseEntity.ok(this.categoryClientService.findTree().getBody());
 	}
 	
 	@GetMapping("/{categoryId}")
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.product.controller;
 
+import java.util.List;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,9 +10,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.model.request.ProductFilter;
 import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.ProductClientService;
 
@@ -24,8 +28,19 @@ public class ProductController {
 	private final ProductClientService productClientService;
 	
 	@GetMapping
-	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.productClientService.findAll().getBody());
+	public ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		return ResponseEntity.ok(this.productClientService.findAll(after, limit).getBody());
+	}
+	
+	@GetMapping("/search")
+	public ResponseEntity<ProductProductServiceCollectionDtoResponse> search(
+			final ProductFilter filter, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort) {
+		return ResponseEntity.ok(this.productClientService.search(filter, page, size, sort).getBody());
 	}
 	
 	@GetMapping("/{productId}")
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
@@ -20,7 +21,12 @@ import com.selimhorri.app.business.product.model.response.CategoryProductService
 public interface CategoryClientService {
 	
 	@GetMapping
-	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll();
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit);
+	
+	@GetMapping("/tree")
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findTree();
 	
 	@GetMapping("/{categoryId}")
 	ResponseEntity<CategoryDto> findById(
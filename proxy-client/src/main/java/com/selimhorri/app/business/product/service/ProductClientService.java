@@ -1,10 +1,13 @@
 package com.selimhorri.app.business.product.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.cloud.openfeign.SpringQueryMap;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,15 +15,26 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.model.request.ProductFilter;
 import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
 
 @FeignClient(name = "PRODUCT-SERVICE", contextId = "productClientService", path = "/product-service/api/products")
 public interface ProductClientService {
 	
 	@GetMapping
-	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll();
+	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit);
+	
+	@GetMapping("/search")
+	ResponseEntity<ProductProductServiceCollectionDtoResponse> search(
+			@SpringQueryMap final ProductFilter filter, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort);
 	
 	@GetMapping("/{productId}")
 	ResponseEntity<ProductDto> findById(
@@ -8,8 +8,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.business.auth.service.CredentialCacheService;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
@@ -22,10 +24,13 @@ import lombok.RequiredArgsConstructor;
 public class CredentialController {
 	
 	private final CredentialClientService credentialClientService;
+	private final CredentialCacheService credentialCacheService;
 	
 	@GetMapping
-	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.credentialClientService.findAll().getBody());
+	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		return ResponseEntity.ok(this.credentialClientService.findAll(after, limit).getBody());
 	}
 	
 	@GetMapping("/{credentialId}")
@@ -45,17 +50,30 @@ public class CredentialController {
 	
 	@PutMapping
 	public ResponseEntity<CredentialDto> update(@RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final var updatedCredentialDto = this.credentialClientService.update(credentialDto).getBody();
+		this.credentialCacheService.evict(credentialDto.getCredentialId());
+		this.credentialCacheService.evict(credentialDto.getUsername());
+		return ResponseEntity.ok(updatedCredentialDto);
 	}
 	
 	@PutMapping("/{credentialId}")
 	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		// a malformed id is rejected before user-service is touched, not after the update went through
+		final int parsedCredentialId = Integer.parseInt(credentialId.strip());
+		final var updatedCredentialDto = this.credentialClientService.update(credentialDto).getBody();
+		this.credentialCacheService.evict(parsedCredentialId);
+		this.credentialCacheService.evict(credentialDto.getUsername());
+		return ResponseEntity.ok(updatedCredentialDto);
 	}
 	
 	@DeleteMapping("/{credentialId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
-		return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
+		final int parsedCredentialId = Integer.parseInt(credentialId.strip());
+		final var credentialDto = this.credentialClientService.findById(credentialId).getBody();
+		final var isDeleted = this.credentialClientService.deleteById(credentialId).getBody();
+		this.credentialCacheService.evict(parsedCredentialId);
+		this.credentialCacheService.evict(credentialDto != null ? credentialDto.getUsername() : null);
+		return ResponseEntity.ok(isDeleted);
 	}
 	
 	
@@ -8,8 +8,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.business.auth.service.CredentialCacheService;
+import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.UserDto;
 import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.UserClientService;
@@ -22,10 +25,13 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 	
 	private final UserClientService userClientService;
+	private final CredentialCacheService credentialCacheService;
 	
 	@GetMapping
-	public ResponseEntity<UserUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.userClientService.findAll().getBody());
+	public ResponseEntity<UserUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "after", required = false) final String after, 
+			@RequestParam(name = "limit", required = false) final Integer limit) {
+		return ResponseEntity.ok(this.userClientService.findAll(after, limit).getBody());
 	}
 	
 	@GetMapping("/{userId}")
@@ -45,17 +51,34 @@ public class UserController {
 	
 	@PutMapping
 	public ResponseEntity<UserDto> update(@RequestBody final UserDto userDto) {
-		return ResponseEntity.ok(this.userClientService.update(userDto).getBody());
+		final var updatedUserDto = this.userClientService.update(userDto).getBody();
+		this.evictCredential(userDto.getCredentialDto());
+		this.evictCredential(updatedUserDto != null ? updatedUserDto.getCredentialDto() : null);
+		return ResponseEntity.ok(updatedUserDto);
 	}
 	
 	@PutMapping("/{userId}")
 	public ResponseEntity<UserDto> update(@PathVariable("userId") final String userId, @RequestBody final UserDto userDto) {
-		return ResponseEntity.ok(this.userClientService.update(userDto).getBody());
+		final var updatedUserDto = this.userClientService.update(userDto).getBody();
+		this.evictCredential(userDto.getCredentialDto());
+		this.evictCredential(updatedUserDto != null ? updatedUserDto.getCredentialDto() : null);
+		return ResponseEntity.ok(updatedUserDto);
 	}
 	
 	@DeleteMapping("/{userId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("userId") final String userId) {
-		return ResponseEntity.ok(this.userClientService.deleteById(userId).getBody());
+		final var userDto = this.userClientService.findById(userId).getBody();
+		final var isDeleted = this.userClientService.deleteById(userId).getBody();
+		this.evictCredential(userDto != null ? userDto.getCredentialDto() : null);
+		return ResponseEntity.ok(isDeleted);
+	}
+	
+	// a user write cascades to its credential, so the cached login and its tokens go with it
+	private void evictCredential(final CredentialDto credentialDto) {
+		if (credentialDto != null) {
+			this.credentialCacheService.evict(credentialDto.getCredentialId());
+			this.credentialCacheService.evict(credentialDto.getUsername());
+		}
 	}
 	
 	
@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(UserDetailsCacheProperties.class)
+public class CacheConfig {
+	
+	public static final String USER_DETAILS_CACHE = "userDetailsCache";
+	
+	@Bean
+	public Cache<String, UserDetailsImpl> userDetailsCacheBean(final UserDetailsCacheProperties userDetailsCacheProperties,
+			final MeterRegistry meterRegistry) {
+		final Cache<String, UserDetailsImpl> userDetailsCache = Caffeine.newBuilder()
+				.maximumSize(userDetailsCacheProperties.getMaximumSize())
+				.expireAfterWrite(userDetailsCacheProperties.getTimeToLive())
+				.recordStats()
+				.build();
+		return CaffeineCacheMetrics.monitor(meterRegistry, userDetailsCache, USER_DETAILS_CACHE);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
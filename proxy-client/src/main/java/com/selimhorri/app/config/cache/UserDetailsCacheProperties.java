@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.cache.user-details")
+public class UserDetailsCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration timeToLive = Duration.ofMinutes(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
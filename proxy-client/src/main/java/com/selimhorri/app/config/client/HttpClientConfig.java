@@ -0,0 +1,77 @@
+package com.selimhorri.app.config.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.Request;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+@Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
+public class HttpClientConfig {
+	
+	public static final String CONNECTION_POOL = "proxyClientPool";
+	
+	@Bean
+	public PoolingHttpClientConnectionManager connectionManagerBean(final HttpClientProperties httpClientProperties, 
+			final MeterRegistry meterRegistry) {
+		final PoolingHttpClientConnectionManager connectionManager = 
+				new PoolingHttpClientConnectionManager(httpClientProperties.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+		connectionManager.setMaxTotal(httpClientProperties.getMaxTotal());
+		connectionManager.setDefaultMaxPerRoute(httpClientProperties.getMaxPerRoute());
+		connectionManager.setValidateAfterInactivity((int) httpClientProperties.getValidateAfterInactivity().toMillis());
+		httpClientProperties.getMaxPerHost().forEach((host, max) -> 
+				connectionManager.setMaxPerRoute(new HttpRoute(HttpHost.create(host)), max));
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CONNECTION_POOL).bindTo(meterRegistry);
+		return connectionManager;
+	}
+	
+	// shared by every Feign client and the load balanced RestTemplate, Feign's own http client auto-configuration backs off
+	@Bean
+	public CloseableHttpClient httpClientBean(final PoolingHttpClientConnectionManager connectionManager, 
+			final HttpClientProperties httpClientProperties) {
+		return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) httpClientProperties.getConnectTimeout().toMillis())
+						.setSocketTimeout((int) httpClientProperties.getReadTimeout().toMillis())
+						.setConnectionRequestTimeout((int) httpClientProperties.getConnectionRequestTimeout().toMillis())
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(httpClientProperties.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+				.disableCookieManagement()
+				.build();
+	}
+	
+	// Feign passes its own options on every request, so they carry the same timeouts
+	@Bean
+	public Request.Options feignRequestOptionsBean(final HttpClientProperties httpClientProperties) {
+		return new Request.Options(
+				httpClientProperties.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS, 
+				httpClientProperties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS, 
+				true);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
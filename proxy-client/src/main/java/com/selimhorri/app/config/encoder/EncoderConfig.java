@@ -1,16 +1,45 @@
 package com.selimhorri.app.config.encoder;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
 @Configuration
+@EnableConfigurationProperties(PasswordVerificationProperties.class)
 public class EncoderConfig {
 	
+	public static final String PASSWORD_VERIFICATION_EXECUTOR = "passwordVerificationExecutor";
+	
 	@Bean
-	public PasswordEncoder getPasswordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder getPasswordEncoder(final PasswordVerificationProperties passwordVerificationProperties, 
+			final MeterRegistry meterRegistry) {
+		return new MeteredBCryptPasswordEncoder(passwordVerificationProperties.getStrength(), meterRegistry);
+	}
+	
+	@Bean(destroyMethod = "shutdown")
+	public ThreadPoolExecutor passwordVerificationExecutorBean(final PasswordVerificationProperties passwordVerificationProperties, 
+			final MeterRegistry meterRegistry) {
+		final BlockingQueue<Runnable> queue = (passwordVerificationProperties.getQueueCapacity() > 0) ? 
+				new ArrayBlockingQueue<>(passwordVerificationProperties.getQueueCapacity()) : new SynchronousQueue<>();
+		// default AbortPolicy, a full queue is answered with 429 instead of piling up request threads
+		final ThreadPoolExecutor passwordVerificationExecutor = new ThreadPoolExecutor(
+				passwordVerificationProperties.getPoolSize(), passwordVerificationProperties.getPoolSize(), 
+				0L, TimeUnit.MILLISECONDS, queue, new CustomizableThreadFactory("password-verification-"));
+		new ExecutorServiceMetrics(passwordVerificationExecutor, PASSWORD_VERIFICATION_EXECUTOR, Tags.empty())
+				.bindTo(meterRegistry);
+		return passwordVerificationExecutor;
 	}
 	
 	
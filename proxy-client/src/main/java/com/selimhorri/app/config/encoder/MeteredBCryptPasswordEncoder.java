@@ -0,0 +1,57 @@
+package com.selimhorri.app.config.encoder;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class MeteredBCryptPasswordEncoder implements PasswordEncoder {
+	
+	public static final String HASH_TIMER = "auth.password.hash";
+	
+	private final int strength;
+	private final BCryptPasswordEncoder delegate;
+	private final Timer hashTimer;
+	
+	public MeteredBCryptPasswordEncoder(final int strength, final MeterRegistry meterRegistry) {
+		this.strength = strength;
+		this.delegate = new BCryptPasswordEncoder(strength);
+		this.hashTimer = Timer.builder(HASH_TIMER)
+				.description("Time spent computing BCrypt hashes")
+				.tag("strength", String.valueOf(strength))
+				.register(meterRegistry);
+	}
+	
+	@Override
+	public String encode(final CharSequence rawPassword) {
+		return this.hashTimer.record(() -> this.delegate.encode(rawPassword));
+	}
+	
+	@Override
+	public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+		return this.hashTimer.record(() -> this.delegate.matches(rawPassword, encodedPassword));
+	}
+	
+	@Override
+	public boolean upgradeEncoding(final String encodedPassword) {
+		// rehash whenever the configured cost differs, lowering it included, e.g. $2a$10$...
+		if (encodedPassword == null || encodedPassword.length() < 7 || !encodedPassword.startsWith("$2")) {
+			return false;
+		}
+		return !encodedPassword.substring(4, 6).equals(String.format("%02d", this.strength));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
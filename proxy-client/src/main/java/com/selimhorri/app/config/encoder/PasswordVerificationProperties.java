@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.encoder;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.password-verification")
+public class PasswordVerificationProperties {
+	
+	private int strength = 10;
+	private int poolSize = Runtime.getRuntime().availableProcessors();
+	private int queueCapacity = 64;
+	private Duration retryAfter = Duration.ofSeconds(1);
+	
+}
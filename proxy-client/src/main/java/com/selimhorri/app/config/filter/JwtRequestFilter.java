@@ -17,6 +17,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.selimhorri.app.jwt.service.JwtService;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,23 +38,22 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		
 		final var authorizationHeader = request.getHeader("Authorization");
 		
-		String username = null;
-		String jwt = null;
-		
-		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
-			jwt = authorizationHeader.substring(7);
-			username = jwtService.extractUsername(jwt);
-		}
-		
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+				&& SecurityContextHolder.getContext().getAuthentication() == null ) {
 			
-			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+			final Claims claims = this.parseClaims(authorizationHeader.substring(7));
 			
-			if (this.jwtService.validateToken(jwt, userDetails)) {
-				final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
-						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-				usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-				SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+			if (claims != null && claims.getSubject() != null) {
+				
+				final UserDetails userDetails = this.resolveUserDetails(claims);
+				
+				if (this.jwtService.validateToken(claims, userDetails)) {
+					final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
+							new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+					usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+					SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+				}
+				
 			}
 			
 		}
@@ -61,6 +62,21 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		log.info("**Jwt request filtered!*\n");
 	}
 	
+	private Claims parseClaims(final String jwt) {
+		try {
+			return this.jwtService.extractAllClaims(jwt);
+		}
+		catch (JwtException | IllegalArgumentException e) {
+			log.info("**JwtRequestFilter, rejected invalid token: {}*\n", e.getMessage());
+			return null;
+		}
+	}
+	
+	private UserDetails resolveUserDetails(final Claims claims) {
+		return this.jwtService.extractUserDetails(claims)
+				.orElseGet(() -> this.userDetailsService.loadUserByUsername(claims.getSubject()));
+	}
+	
 	
 	
 }
@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.jwt;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+	
+	private String secret = "secret";
+	private Duration expiration = Duration.ofHours(10);
+	private boolean selfContained = true;
+	private long claimsCacheMaximumSize = 10_000;
+	private Duration claimsCacheTimeToLive = Duration.ofMinutes(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
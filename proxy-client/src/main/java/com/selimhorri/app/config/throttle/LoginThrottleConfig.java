@@ -0,0 +1,56 @@
+package com.selimhorri.app.config.throttle;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.auth.model.TokenBucket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(LoginThrottleProperties.class)
+public class LoginThrottleConfig {
+	
+	public static final String LOGIN_THROTTLE_CACHE = "loginThrottleCache";
+	
+	@Bean
+	public Cache<String, TokenBucket> loginThrottleCacheBean(final LoginThrottleProperties loginThrottleProperties, 
+			final MeterRegistry meterRegistry) {
+		final Cache<String, TokenBucket> loginThrottleCache = Caffeine.newBuilder()
+				.maximumSize(loginThrottleProperties.getMaximumKeys())
+				.expireAfterAccess(idleTimeout(loginThrottleProperties))
+				.recordStats()
+				.build();
+		return CaffeineCacheMetrics.monitor(meterRegistry, loginThrottleCache, LOGIN_THROTTLE_CACHE);
+	}
+	
+	private static Duration idleTimeout(final LoginThrottleProperties loginThrottleProperties) {
+		// an idle bucket may only be dropped once it would have refilled completely anyway
+		final var username = loginThrottleProperties.getUsername();
+		final var ip = loginThrottleProperties.getIp();
+		final Duration usernameRefill = username.getRefillPeriod().multipliedBy(username.getCapacity());
+		final Duration ipRefill = ip.getRefillPeriod().multipliedBy(ip.getCapacity());
+		final Duration fullRefill = (usernameRefill.compareTo(ipRefill) > 0) ? usernameRefill : ipRefill;
+		return (loginThrottleProperties.getIdleTimeout().compareTo(fullRefill) > 0) ? 
+				loginThrottleProperties.getIdleTimeout() : fullRefill;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.throttle;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@ConfigurationProperties(prefix = "app.login-throttle")
+public class LoginThrottleProperties {
+	
+	private boolean enabled = true;
+	private long maximumKeys = 1_000_000;
+	private Duration idleTimeout = Duration.ofMinutes(10);
+	private Limit username = new Limit(5, Duration.ofSeconds(12));
+	private Limit ip = new Limit(20, Duration.ofSeconds(1));
+	
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Limit {
+		
+		private int capacity;
+		private Duration refillPeriod;
+		
+	}
+	
+}
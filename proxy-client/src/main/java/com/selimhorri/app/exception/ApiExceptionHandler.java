@@ -3,6 +3,7 @@ package com.selimhorri.app.exception;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import com.selimhorri.app.exception.payload.ExceptionMsg;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
+import com.selimhorri.app.exception.wrapper.TooManyAuthenticationRequestsException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
 
@@ -71,6 +73,7 @@ public class ApiExceptionHandler {
 		VerificationTokenNotFoundException.class,
 		FavouriteNotFoundException.class,
 		IllegalStateException.class,
+		NumberFormatException.class,
 	})
 	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleApiRequestException(final T e) {
 		
@@ -86,6 +89,24 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = TooManyAuthenticationRequestsException.class)
+	public ResponseEntity<ExceptionMsg> handleTooManyRequestsException(final TooManyAuthenticationRequestsException e) {
+		
+		log.info("**ApiExceptionHandler controller, handle too many requests*\n");
+		final var tooManyRequests = HttpStatus.TOO_MANY_REQUESTS;
+		final var headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, 
+				(e.getRetryAfter().toMillis() + 999L) / 1000L)));
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg(e.getMessage())
+					.httpStatus(tooManyRequests)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), headers, tooManyRequests);
+	}
+	
 	
 	
 }
@@ -0,0 +1,37 @@
+package com.selimhorri.app.exception.wrapper;
+
+import java.time.Duration;
+
+public class TooManyAuthenticationRequestsException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private final Duration retryAfter;
+	
+	public TooManyAuthenticationRequestsException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+	
+	public TooManyAuthenticationRequestsException(String message, Duration retryAfter, Throwable cause) {
+		super(message, cause);
+		this.retryAfter = retryAfter;
+	}
+	
+	public Duration getRetryAfter() {
+		return this.retryAfter;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,12 +1,14 @@
 package com.selimhorri.app.jwt.service.impl;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
@@ -19,6 +21,13 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtServiceImpl implements JwtService {
 	
 	private final JwtUtil jwtUtil;
+	private final TokenRevocationService tokenRevocationService;
+	
+	@Override
+	public Claims extractAllClaims(final String token) {
+		log.info("**Claims, jwt service extract verified claims from given token!*");
+		return this.jwtUtil.extractAllClaims(token);
+	}
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -47,7 +56,26 @@ public class JwtServiceImpl implements JwtService {
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
 		log.info("**Boolean, jwt service validate token from given token and userDetails!*");
-		return this.jwtUtil.validateToken(token, userDetails);
+		return this.validateToken(this.jwtUtil.extractAllClaims(token), userDetails);
+	}
+	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
+		log.info("**Boolean, jwt service validate token from given claims and userDetails!*");
+		return this.jwtUtil.validateToken(claims, userDetails)
+				&& !this.tokenRevocationService.isRevoked(userDetails.getUsername(), claims.getIssuedAt());
+	}
+	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final String token) {
+		log.info("**Optional<UserDetails>, jwt service extract userDetails from given self-contained token!*");
+		return this.jwtUtil.extractUserDetails(token);
+	}
+	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final Claims claims) {
+		log.info("**Optional<UserDetails>, jwt service extract userDetails from given self-contained claims!*");
+		return this.jwtUtil.extractUserDetails(claims);
 	}
 	
 	
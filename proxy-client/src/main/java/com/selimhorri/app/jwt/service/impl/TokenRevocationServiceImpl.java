@@ -0,0 +1,48 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.time.Instant;
+import java.util.Date;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+	
+	private final Cache<String, Instant> revokedCredentialCache;
+	
+	@Override
+	public void revoke(final String username) {
+		log.info("**Void, token revocation service revoke tokens issued so far for given username!*");
+		if (username != null) {
+			this.revokedCredentialCache.put(username, Instant.now());
+		}
+	}
+	
+	@Override
+	public Boolean isRevoked(final String username, final Date issuedAt) {
+		final Instant revokedAt = this.revokedCredentialCache.getIfPresent(username);
+		// issuedAt only has second precision, so a token from the revocation second is rejected as well
+		return revokedAt != null && (issuedAt == null || !issuedAt.toInstant().isAfter(revokedAt));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,6 +1,7 @@
 package com.selimhorri.app.jwt.util;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,10 +10,14 @@ import io.jsonwebtoken.Claims;
 
 public interface JwtUtil {
 	
+	Claims extractAllClaims(final String token);
 	String extractUsername(final String token);
 	Date extractExpiration(final String token);
 	<T> T extractClaims(final String token, final Function<Claims, T> claimsResolver);
 	String generateToken(final UserDetails userDetails);
 	Boolean validateToken(final String token, final UserDetails userDetails);
+	Boolean validateToken(final Claims claims, final UserDetails userDetails);
+	Optional<UserDetails> extractUserDetails(final String token);
+	Optional<UserDetails> extractUserDetails(final Claims claims);
 	
 }
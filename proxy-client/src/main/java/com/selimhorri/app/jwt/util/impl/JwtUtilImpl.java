@@ -1,23 +1,40 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.jwt.JwtProperties;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtilImpl implements JwtUtil {
 	
-	private static final String SECRET_KEY = "secret";
+	private static final String ROLE_CLAIM = "role";
+	private static final String ENABLED_CLAIM = "enabled";
+	private static final String ACCOUNT_NON_LOCKED_CLAIM = "accountNonLocked";
+	
+	private final JwtProperties jwtProperties;
+	private final Cache<String, Claims> verifiedClaimsCache;
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -35,17 +52,35 @@ public class JwtUtilImpl implements JwtUtil {
 		return claimsResolver.apply(claims);
 	}
 	
-	private Claims extractAllClaims(final String token) {
-		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+	@Override
+	public Claims extractAllClaims(final String token) {
+		return this.verifiedClaimsCache.get(digest(token),
+				d -> Jwts.parser().setSigningKey(this.jwtProperties.getSecret()).parseClaimsJws(token).getBody());
+	}
+	
+	private static String digest(final String token) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+	private Boolean isTokenExpired(final Claims claims) {
+		return claims.getExpiration().before(new Date());
 	}
 	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
+		if (this.jwtProperties.isSelfContained() && userDetails instanceof UserDetailsImpl) {
+			final var credential = ((UserDetailsImpl) userDetails).getCredential();
+			claims.put(ROLE_CLAIM, credential.getRoleBasedAuthority().name());
+			claims.put(ENABLED_CLAIM, userDetails.isEnabled());
+			claims.put(ACCOUNT_NON_LOCKED_CLAIM, userDetails.isAccountNonLocked());
+		}
 		return this.createToken(claims, userDetails.getUsername());
 	}
 	
@@ -54,19 +89,45 @@ public class JwtUtilImpl implements JwtUtil {
 					.setClaims(claims)
 					.setSubject(subject)
 					.setIssuedAt(new Date(System.currentTimeMillis()))
-					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+					.setExpiration(new Date(System.currentTimeMillis() + this.jwtProperties.getExpiration().toMillis()))
+					.signWith(SignatureAlgorithm.HS256, this.jwtProperties.getSecret())
 		.compact();
 	}
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		return this.validateToken(this.extractAllClaims(token), userDetails);
+	}
+	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
+		final String username = claims.getSubject();
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			username.equals(userDetails.getUsername()) && !isTokenExpired(claims)
+				&& userDetails.isEnabled() && userDetails.isAccountNonLocked()
 		);
 	}
 	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final String token) {
+		return this.extractUserDetails(this.extractAllClaims(token));
+	}
+	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final Claims claims) {
+		if (!this.jwtProperties.isSelfContained() || claims.get(ROLE_CLAIM) == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new UserDetailsImpl(CredentialDto.builder()
+				.username(claims.getSubject())
+				.roleBasedAuthority(RoleBasedAuthority.valueOf(claims.get(ROLE_CLAIM, String.class)))
+				.isEnabled(claims.get(ENABLED_CLAIM, Boolean.class))
+				.isAccountNonLocked(claims.get(ACCOUNT_NON_LOCKED_CLAIM, Boolean.class))
+				.isAccountNonExpired(true)
+				.isCredentialsNonExpired(true)
+				.build()));
+	}
+	
 	
 	
 }
@@ -0,0 +1,114 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.selimhorri.app.business.auth.model.request.AuthenticationRequest;
+import com.selimhorri.app.business.auth.model.response.AuthenticationResponse;
+import com.selimhorri.app.config.encoder.PasswordVerificationProperties;
+import com.selimhorri.app.exception.wrapper.TooManyAuthenticationRequestsException;
+import com.selimhorri.app.jwt.service.JwtService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthenticationServiceImplTest {
+    
+    @Mock
+    private AuthenticationManager authenticationManager;
+    
+    @Mock
+    private UserDetailsService userDetailsService;
+    
+    @Mock
+    private JwtService jwtService;
+    
+    @Mock
+    private UserDetails userDetails;
+    
+    private ThreadPoolExecutor passwordVerificationExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private AuthenticationServiceImpl authenticationService;
+    private AuthenticationRequest authenticationRequest;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        final PasswordVerificationProperties passwordVerificationProperties = new PasswordVerificationProperties();
+        passwordVerificationProperties.setRetryAfter(Duration.ofSeconds(2));
+        passwordVerificationExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+        meterRegistry = new SimpleMeterRegistry();
+        authenticationService = new AuthenticationServiceImpl(authenticationManager, userDetailsService, jwtService, 
+                passwordVerificationExecutor, passwordVerificationProperties, meterRegistry);
+        authenticationRequest = new AuthenticationRequest("selimhorri", "password");
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        passwordVerificationExecutor.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("Test authenticate verifies the password on the executor and returns a token")
+    public void testAuthenticate_Success() throws Exception {
+        // Arrange
+        when(userDetailsService.loadUserByUsername("selimhorri")).thenReturn(userDetails);
+        final AtomicReference<Thread> verifyingThread = new AtomicReference<>();
+        when(jwtService.generateToken(userDetails)).thenAnswer(invocation -> {
+            verifyingThread.set(Thread.currentThread());
+            return "token";
+        });
+        
+        // Act
+        AuthenticationResponse result = authenticationService.authenticate(authenticationRequest).get(5, TimeUnit.SECONDS);
+        
+        // Assert
+        assertEquals("token", result.getJwtToken());
+        assertNotEquals(Thread.currentThread(), verifyingThread.get());
+    }
+    
+    @Test
+    @DisplayName("Test authenticate is rejected fast when the verification executor is saturated")
+    public void testAuthenticate_WhenExecutorSaturated() throws Exception {
+        // Arrange
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        authenticationService.authenticate(authenticationRequest);
+        started.await(5, TimeUnit.SECONDS);
+        
+        // Act & Assert
+        TooManyAuthenticationRequestsException exception = assertThrows(TooManyAuthenticationRequestsException.class, () -> {
+            authenticationService.authenticate(authenticationRequest);
+        });
+        
+        release.countDown();
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.counter(AuthenticationServiceImpl.REJECTED_COUNTER).count());
+    }
+}
@@ -0,0 +1,90 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.auth.model.TokenBucket;
+import com.selimhorri.app.config.throttle.LoginThrottleProperties;
+import com.selimhorri.app.exception.wrapper.TooManyAuthenticationRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LoginThrottleServiceImplTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private Cache<String, TokenBucket> loginThrottleCache;
+    private LoginThrottleServiceImpl loginThrottleService;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        final LoginThrottleProperties loginThrottleProperties = new LoginThrottleProperties();
+        loginThrottleProperties.setUsername(new LoginThrottleProperties.Limit(2, Duration.ofMinutes(1)));
+        loginThrottleProperties.setIp(new LoginThrottleProperties.Limit(3, Duration.ofMinutes(1)));
+        meterRegistry = new SimpleMeterRegistry();
+        loginThrottleCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .build();
+        loginThrottleService = new LoginThrottleServiceImpl(loginThrottleCache, loginThrottleProperties, meterRegistry);
+    }
+    
+    @Test
+    @DisplayName("Test acquire throttles a username once its bucket is empty")
+    public void testAcquire_WhenUsernameBucketEmpty() {
+        // Arrange
+        loginThrottleService.acquire("selimhorri", "10.0.0.1");
+        loginThrottleService.acquire("SelimHorri", "10.0.0.2");
+        
+        // Act & Assert
+        TooManyAuthenticationRequestsException exception = assertThrows(TooManyAuthenticationRequestsException.class, () -> {
+            loginThrottleService.acquire("selimhorri", "10.0.0.3");
+        });
+        
+        assertTrue(exception.getRetryAfter().compareTo(Duration.ofSeconds(55)) > 0);
+        assertEquals(1.0, meterRegistry.counter(LoginThrottleServiceImpl.THROTTLED_COUNTER, "key", "username").count());
+        assertDoesNotThrow(() -> loginThrottleService.acquire("another", "10.0.0.3"));
+    }
+    
+    @Test
+    @DisplayName("Test acquire throttles a client IP spraying many usernames")
+    public void testAcquire_WhenIpBucketEmpty() {
+        // Arrange
+        loginThrottleService.acquire("user1", "10.0.0.1");
+        loginThrottleService.acquire("user2", "10.0.0.1");
+        loginThrottleService.acquire("user3", "10.0.0.1");
+        
+        // Act & Assert
+        assertThrows(TooManyAuthenticationRequestsException.class, () -> {
+            loginThrottleService.acquire("user4", "10.0.0.1");
+        });
+        
+        assertEquals(1.0, meterRegistry.counter(LoginThrottleServiceImpl.THROTTLED_COUNTER, "key", "ip").count());
+        assertDoesNotThrow(() -> loginThrottleService.acquire("user4", "10.0.0.2"));
+    }
+    
+    @Test
+    @DisplayName("Test token bucket refills one token per refill period")
+    public void testTokenBucket_Refill() {
+        // Arrange
+        final long refillNanos = TimeUnit.SECONDS.toNanos(1);
+        final TokenBucket tokenBucket = new TokenBucket(0L);
+        
+        // Act & Assert
+        assertEquals(0L, tokenBucket.tryAcquire(0L, refillNanos, 2));
+        assertEquals(0L, tokenBucket.tryAcquire(0L, refillNanos, 2));
+        assertEquals(refillNanos, tokenBucket.tryAcquire(0L, refillNanos, 2));
+        assertEquals(0L, tokenBucket.tryAcquire(refillNanos, refillNanos, 2));
+        assertEquals(refillNanos, tokenBucket.tryAcquire(refillNanos, refillNanos, 2));
+    }
+}
@@ -0,0 +1,133 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDetailsServiceImplTest {
+    
+    private static final String CREDENTIALS_URL = "http://USER-SERVICE/user-service/api/credentials";
+    private static final String CREDENTIAL_URL = "http://USER-SERVICE/user-service/api/credentials/username/selimhorri";
+    
+    @Mock
+    private RestTemplate restTemplate;
+    
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    
+    private Cache<String, UserDetailsImpl> userDetailsCache;
+    private UserDetailsServiceImpl userDetailsService;
+    private CredentialCacheServiceImpl credentialCacheService;
+    private CredentialDto credentialDto;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        userDetailsCache = Caffeine.newBuilder()
+                .maximumSize(10)
+                .recordStats()
+                .build();
+        userDetailsService = new UserDetailsServiceImpl(restTemplate, userDetailsCache);
+        credentialCacheService = new CredentialCacheServiceImpl(userDetailsCache, tokenRevocationService);
+        
+        credentialDto = CredentialDto.builder()
+                .credentialId(1)
+                .username("selimhorri")
+                .password("password")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build();
+    }
+    
+    @Test
+    @DisplayName("Test loadUserByUsername fetches user-service only once for repeated lookups")
+    public void testLoadUserByUsername_UsesCache() {
+        // Arrange
+        when(restTemplate.getForObject(CREDENTIAL_URL, CredentialDto.class)).thenReturn(credentialDto);
+        
+        // Act
+        UserDetails first = userDetailsService.loadUserByUsername("selimhorri");
+        UserDetails second = userDetailsService.loadUserByUsername("selimhorri");
+        
+        // Assert
+        assertSame(first, second);
+        assertEquals("selimhorri", second.getUsername());
+        assertEquals(1, userDetailsCache.stats().hitCount());
+        verify(restTemplate, times(1)).getForObject(CREDENTIAL_URL, CredentialDto.class);
+    }
+    
+    @Test
+    @DisplayName("Test evicting by credentialId forces a fresh user-service lookup")
+    public void testEvictByCredentialId() {
+        // Arrange
+        when(restTemplate.getForObject(CREDENTIAL_URL, CredentialDto.class)).thenReturn(credentialDto);
+        userDetailsService.loadUserByUsername("selimhorri");
+        
+        // Act
+        credentialCacheService.evict(1);
+        userDetailsService.loadUserByUsername("selimhorri");
+        
+        // Assert
+        verify(restTemplate, times(2)).getForObject(CREDENTIAL_URL, CredentialDto.class);
+        verify(tokenRevocationService, times(1)).revoke("selimhorri");
+    }
+    
+    @Test
+    @DisplayName("Test loadUserByUsername throws when user-service has no credential")
+    public void testLoadUserByUsername_WhenCredentialDoesNotExist() {
+        // Arrange
+        when(restTemplate.getForObject(anyString(), eq(CredentialDto.class))).thenReturn(null);
+        
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> {
+            userDetailsService.loadUserByUsername("unknown");
+        });
+        
+        assertEquals(0, userDetailsCache.estimatedSize());
+    }
+    
+    @Test
+    @DisplayName("Test updatePassword stores the rehashed password and refreshes the cache")
+    public void testUpdatePassword() {
+        // Arrange
+        when(restTemplate.getForObject(CREDENTIAL_URL, CredentialDto.class)).thenReturn(credentialDto);
+        UserDetails userDetails = userDetailsService.loadUserByUsername("selimhorri");
+        ArgumentCaptor<CredentialDto> captor = ArgumentCaptor.forClass(CredentialDto.class);
+        
+        // Act
+        UserDetails result = userDetailsService.updatePassword(userDetails, "rehashed");
+        
+        // Assert
+        verify(restTemplate).put(eq(CREDENTIALS_URL), captor.capture());
+        assertEquals("rehashed", captor.getValue().getPassword());
+        assertEquals("rehashed", result.getPassword());
+        assertSame(result, userDetailsCache.getIfPresent("selimhorri"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.selimhorri.app.config.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class HttpClientConfigTest {
+    
+    private HttpClientConfig httpClientConfig;
+    private HttpClientProperties httpClientProperties;
+    private SimpleMeterRegistry meterRegistry;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        httpClientConfig = new HttpClientConfig();
+        httpClientProperties = new HttpClientProperties();
+        httpClientProperties.setMaxTotal(40);
+        httpClientProperties.setMaxPerRoute(10);
+        httpClientProperties.setMaxPerHost(Map.of("product-service:8500", 25));
+        httpClientProperties.setReadTimeout(Duration.ofSeconds(3));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+    
+    @Test
+    @DisplayName("Test connection pool applies per-host limits and publishes pool metrics")
+    public void testConnectionManager() {
+        // Act
+        PoolingHttpClientConnectionManager connectionManager = httpClientConfig.connectionManagerBean(httpClientProperties, meterRegistry);
+        
+        // Assert
+        assertEquals(40, connectionManager.getMaxTotal());
+        assertEquals(10, connectionManager.getMaxPerRoute(new HttpRoute(HttpHost.create("order-service:8300"))));
+        assertEquals(25, connectionManager.getMaxPerRoute(new HttpRoute(HttpHost.create("product-service:8500"))));
+        assertNotNull(meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauge());
+        connectionManager.close();
+    }
+    
+    @Test
+    @DisplayName("Test Feign request options carry the configured timeouts")
+    public void testFeignRequestOptions() {
+        // Act
+        Request.Options options = httpClientConfig.feignRequestOptionsBean(httpClientProperties);
+        
+        // Assert
+        assertEquals(2000, options.connectTimeoutMillis());
+        assertEquals(3000, options.readTimeoutMillis());
+    }
+}
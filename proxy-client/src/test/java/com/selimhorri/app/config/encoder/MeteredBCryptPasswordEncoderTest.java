@@ -0,0 +1,53 @@
+package com.selimhorri.app.config.encoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class MeteredBCryptPasswordEncoderTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private MeteredBCryptPasswordEncoder passwordEncoder;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new MeteredBCryptPasswordEncoder(5, meterRegistry);
+    }
+    
+    @Test
+    @DisplayName("Test matches records the hash time")
+    public void testMatches_RecordsHashTime() {
+        // Arrange
+        String encoded = passwordEncoder.encode("password");
+        
+        // Act
+        boolean result = passwordEncoder.matches("password", encoded);
+        
+        // Assert
+        assertTrue(result);
+        assertEquals(2, meterRegistry.get(MeteredBCryptPasswordEncoder.HASH_TIMER).timer().count());
+    }
+    
+    @Test
+    @DisplayName("Test upgradeEncoding requests a rehash when the cost factor changed")
+    public void testUpgradeEncoding_WhenStrengthChanged() {
+        // Arrange
+        String current = passwordEncoder.encode("password");
+        String weaker = new MeteredBCryptPasswordEncoder(4, meterRegistry).encode("password");
+        String stronger = new MeteredBCryptPasswordEncoder(6, meterRegistry).encode("password");
+        
+        // Act & Assert
+        assertFalse(passwordEncoder.upgradeEncoding(current));
+        assertTrue(passwordEncoder.upgradeEncoding(weaker));
+        assertTrue(passwordEncoder.upgradeEncoding(stronger));
+        assertFalse(passwordEncoder.upgradeEncoding("plain"));
+    }
+}
@@ -0,0 +1,131 @@
+package com.selimhorri.app.jwt.util.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.config.jwt.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.SignatureException;
+
+public class JwtUtilImplTest {
+    
+    private JwtProperties jwtProperties;
+    private Cache<String, Claims> verifiedClaimsCache;
+    private JwtUtilImpl jwtUtil;
+    private UserDetailsImpl userDetails;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        jwtProperties = new JwtProperties();
+        verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(10)
+                .expireAfterWrite(5, TimeUnit.MINUTES)
+                .recordStats()
+                .build();
+        jwtUtil = new JwtUtilImpl(jwtProperties, verifiedClaimsCache);
+        
+        userDetails = new UserDetailsImpl(CredentialDto.builder()
+                .credentialId(1)
+                .username("admin")
+                .password("password")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_ADMIN)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+    
+    @Test
+    @DisplayName("Test self-contained token carries role and account state")
+    public void testExtractUserDetails_WhenSelfContained() {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails);
+        
+        // Act
+        Optional<UserDetails> result = jwtUtil.extractUserDetails(token);
+        
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("admin", result.get().getUsername());
+        assertEquals("ROLE_ADMIN", result.get().getAuthorities().iterator().next().getAuthority());
+        assertTrue(result.get().isEnabled());
+        assertTrue(result.get().isAccountNonLocked());
+        assertTrue(jwtUtil.validateToken(token, result.get()));
+    }
+    
+    @Test
+    @DisplayName("Test token without claims falls back to a credential lookup")
+    public void testExtractUserDetails_WhenNotSelfContained() {
+        // Arrange
+        jwtProperties.setSelfContained(false);
+        String token = jwtUtil.generateToken(userDetails);
+        
+        // Act
+        Optional<UserDetails> result = jwtUtil.extractUserDetails(token);
+        
+        // Assert
+        assertTrue(result.isEmpty());
+        assertTrue(jwtUtil.validateToken(token, userDetails));
+    }
+    
+    @Test
+    @DisplayName("Test validateToken rejects a locked account")
+    public void testValidateToken_WhenAccountLocked() {
+        // Arrange
+        userDetails.getCredential().setIsAccountNonLocked(false);
+        String token = jwtUtil.generateToken(userDetails);
+        
+        // Act & Assert
+        assertFalse(jwtUtil.validateToken(token, jwtUtil.extractUserDetails(token).get()));
+    }
+    
+    @Test
+    @DisplayName("Test repeated token validation verifies the signature only once")
+    public void testExtractAllClaims_UsesCache() {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails);
+        
+        // Act
+        Claims first = jwtUtil.extractAllClaims(token);
+        Claims second = jwtUtil.extractAllClaims(token);
+        
+        // Assert
+        assertEquals(first, second);
+        assertEquals(1, verifiedClaimsCache.stats().missCount());
+        assertEquals(1, verifiedClaimsCache.stats().hitCount());
+        assertTrue(jwtUtil.validateToken(second, userDetails));
+    }
+    
+    @Test
+    @DisplayName("Test tampered token is rejected and never cached")
+    public void testExtractAllClaims_WhenSignatureInvalid() {
+        // Arrange
+        String token = jwtUtil.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        
+        // Act & Assert
+        assertThrows(SignatureException.class, () -> {
+            jwtUtil.extractAllClaims(tampered);
+        });
+        
+        assertEquals(0, verifiedClaimsCache.estimatedSize());
+    }
+}
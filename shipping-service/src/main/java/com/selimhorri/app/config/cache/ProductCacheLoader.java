@@ -0,0 +1,54 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ProductCacheLoader implements CacheLoader<Integer, ProductDto> {
+	
+	private final RestTemplate restTemplate;
+	
+	@Override
+	public ProductDto load(final Integer productId) {
+		return this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class);
+	}
+	
+	@Override
+	public Map<Integer, ProductDto> loadAll(final Iterable<? extends Integer> keys) {
+		final Set<Integer> productIds = new HashSet<>();
+		keys.forEach(productIds::add);
+		if (productIds.isEmpty()) {
+			return Map.of();
+		}
+		final DtoCollectionResponse<ProductDto> response = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch", 
+				HttpMethod.POST, 
+				new HttpEntity<>(productIds), 
+				new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {})
+			.getBody();
+		if (response == null || response.getCollection() == null) {
+			return Map.of();
+		}
+		return response.getCollection().stream()
+				.collect(Collectors.toMap(ProductDto::getProductId, Function.identity(), (first, second) -> first));
+	}
+	
+	
+	
+}
@@ -1,17 +1,67 @@
 package com.selimhorri.app.config.client;
 
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
+@EnableConfigurationProperties(ClientProperties.class)
 public class ClientConfig {
 	
+	public static final String CONNECTION_POOL = "restTemplatePool";
+	
+	@Bean
+	public PoolingHttpClientConnectionManager connectionManagerBean(final ClientProperties clientProperties, 
+			final MeterRegistry meterRegistry) {
+		final PoolingHttpClientConnectionManager connectionManager = 
+				new PoolingHttpClientConnectionManager(clientProperties.getTimeToLive().toMillis(), TimeUnit.MILLISECONDS);
+		connectionManager.setMaxTotal(clientProperties.getMaxTotal());
+		connectionManager.setDefaultMaxPerRoute(clientProperties.getMaxPerRoute());
+		connectionManager.setValidateAfterInactivity((int) clientProperties.getValidateAfterInactivity().toMillis());
+		clientProperties.getMaxPerHost().forEach((host, max) -> 
+				connectionManager.setMaxPerRoute(new HttpRoute(HttpHost.create(host)), max));
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CONNECTION_POOL).bindTo(meterRegistry);
+		return connectionManager;
+	}
+	
+	@Bean
+	public CloseableHttpClient httpClientBean(final PoolingHttpClientConnectionManager connectionManager, 
+			final ClientProperties clientProperties) {
+		return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) clientProperties.getConnectTimeout().toMillis())
+						.setSocketTimeout((int) clientProperties.getReadTimeout().toMillis())
+						.setConnectionRequestTimeout((int) clientProperties.getConnectionRequestTimeout().toMillis())
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(clientProperties.getIdleTimeout().toMillis(), TimeUnit.MILLISECONDS)
+				.disableCookieManagement()
+				.build();
+	}
+	
+	// built from RestTemplateBuilder so every call is timed as http.client.requests
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public RestTemplate restTemplateBean(final RestTemplateBuilder restTemplateBuilder, final CloseableHttpClient httpClient) {
+		return restTemplateBuilder
+				.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+				.build();
 	}
 	
 	
@@ -23,7 +73,3 @@ public class ClientConfig {
 
 
 
-
-
-
-
@@ -0,0 +1,40 @@
+package com.selimhorri.app.config.enrichment;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Configuration
+@EnableConfigurationProperties(EnrichmentProperties.class)
+public class EnrichmentConfig {
+	
+	public static final String ENRICHMENT_EXECUTOR = "enrichmentExecutor";
+	
+	@Bean(destroyMethod = "shutdown")
+	public ThreadPoolExecutor enrichmentExecutorBean(final EnrichmentProperties enrichmentProperties, 
+			final MeterRegistry meterRegistry) {
+		final BlockingQueue<Runnable> queue = (enrichmentProperties.getQueueCapacity() > 0) ? 
+				new ArrayBlockingQueue<>(enrichmentProperties.getQueueCapacity()) : new SynchronousQueue<>();
+		// fixed size and AbortPolicy, a saturated pool degrades to stub dtos instead of growing threads
+		final ThreadPoolExecutor enrichmentExecutor = new ThreadPoolExecutor(
+				enrichmentProperties.getPoolSize(), enrichmentProperties.getPoolSize(), 
+				0L, TimeUnit.MILLISECONDS, queue, new CustomizableThreadFactory("enrichment-"));
+		new ExecutorServiceMetrics(enrichmentExecutor, ENRICHMENT_EXECUTOR, Tags.empty())
+				.bindTo(meterRegistry);
+		return enrichmentExecutor;
+	}
+	
+	
+	
+}
@@ -0,0 +1,18 @@
+package com.selimhorri.app.config.enrichment;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.enrichment")
+public class EnrichmentProperties {
+	
+	private int poolSize = 16;
+	private int queueCapacity = 256;
+	// whole-request budget, lookups still running after it are answered with the stub dto
+	private Duration deadline = Duration.ofSeconds(3);
+	
+}
@@ -34,6 +34,26 @@ public abstract class AppConstant {
 		
 	}
 	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class Pagination {
+		
+		public static final String AFTER_PARAM = "after";
+		public static final String LIMIT_PARAM = "limit";
+		public static final String DEFAULT_LIMIT = "100";
+		public static final int MAX_LIMIT = 1000;
+		
+	}
+	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class Expand {
+		
+		public static final String PARAM = "expand";
+		public static final String USER = "user";
+		public static final String PRODUCT = "product";
+		public static final String ORDER = "order";
+		
+	}
+	
 	
 	
 }
@@ -1,13 +1,15 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Set;
 
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderItemService {
 	
-	List<OrderItemDto> findAll();
+	DtoCollectionResponse<OrderItemDto> findAll(final String after, final int limit, final Set<String> expand);
 	OrderItemDto findById(final OrderItemId orderItemId);
 	OrderItemDto save(final OrderItemDto orderItemDto);
 	OrderItemDto update(final OrderItemDto orderItemDto);
@@ -1,62 +1,208 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.config.enrichment.EnrichmentProperties;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.OrderItemService;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Transactional
 @Slf4j
-@RequiredArgsConstructor
 public class OrderItemServiceImpl implements OrderItemService {
 	
+	public static final String PARTIAL_COUNTER = "shipping.enrichment.partial";
+	private static final String PRODUCT_DEPENDENCY = "product";
+	private static final String ORDER_DEPENDENCY = "order";
+	private static final String CURSOR_SEPARATOR = "/";
+	
 	private final OrderItemRepository orderItemRepository;
 	private final RestTemplate restTemplate;
+	private final LoadingCache<Integer, ProductDto> productCache;
+	private final ThreadPoolExecutor enrichmentExecutor;
+	private final EnrichmentProperties enrichmentProperties;
+	private final Counter productPartialCounter;
+	private final Counter orderPartialCounter;
+	
+	public OrderItemServiceImpl(final OrderItemRepository orderItemRepository, 
+			final RestTemplate restTemplate, 
+			final LoadingCache<Integer, ProductDto> productCache, 
+			final ThreadPoolExecutor enrichmentExecutor, 
+			final EnrichmentProperties enrichmentProperties, 
+			final MeterRegistry meterRegistry) {
+		this.orderItemRepository = orderItemRepository;
+		this.restTemplate = restTemplate;
+		this.productCache = productCache;
+		this.enrichmentExecutor = enrichmentExecutor;
+		this.enrichmentProperties = enrichmentProperties;
+		this.productPartialCounter = partialCounter(PRODUCT_DEPENDENCY, meterRegistry);
+		this.orderPartialCounter = partialCounter(ORDER_DEPENDENCY, meterRegistry);
+	}
+	
+	private static Counter partialCounter(final String dependency, final MeterRegistry meterRegistry) {
+		return Counter.builder(PARTIAL_COUNTER)
+				.description("Lookups answered with the stub dto because the dependency failed or missed the deadline")
+				.tag("dependency", dependency)
+				.register(meterRegistry);
+	}
 	
 	@Override
-	public List<OrderItemDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<OrderItemDto> findAll(final String after, final int limit, final Set<String> expand) {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		final List<OrderItem> orderItems = this.findRowsAfter(after, limit);
+		final List<OrderItemDto> orderItemDtos = PaginationHelper.page(orderItems, limit)
 				.stream()
 					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toList());
+		final long deadline = this.deadline();
+		final Set<Integer> productIds = orderItemDtos.stream()
+				.map(OrderItemDto::getProductId)
+				.collect(Collectors.toSet());
+		final CompletableFuture<Map<Integer, ProductDto>> productDtosFuture = 
+				!expand.contains(AppConstant.Expand.PRODUCT) ? CompletableFuture.completedFuture(Map.of()) : 
+						this.submit(() -> this.productCache.getAll(productIds));
+		final Set<Integer> orderIds = orderItemDtos.stream()
+				.map(OrderItemDto::getOrderId)
+				.collect(Collectors.toSet());
+		final CompletableFuture<Map<Integer, OrderDto>> orderDtosFuture = 
+				!expand.contains(AppConstant.Expand.ORDER) ? CompletableFuture.completedFuture(Map.of()) : 
+						this.submit(() -> this.fetchOrders(orderIds));
+		final Map<Integer, ProductDto> productDtos = 
+				this.await(productDtosFuture, deadline, Map.of(), this.productPartialCounter);
+		final Map<Integer, OrderDto> orderDtos = 
+				this.await(orderDtosFuture, deadline, Map.of(), this.orderPartialCounter);
+		return new DtoCollectionResponse<>(orderItemDtos.stream()
 					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
+						o.setProductDto(productDtos.getOrDefault(o.getProductId(), o.getProductDto()));
+						o.setOrderDto(orderDtos.getOrDefault(o.getOrderId(), o.getOrderDto()));
 						return o;
 					})
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(orderItems, limit, o -> o.getOrderId() + CURSOR_SEPARATOR + o.getProductId()));
+	}
+	
+	// cursor reads "orderId/productId", same order as the findById path
+	private List<OrderItem> findRowsAfter(final String after, final int limit) {
+		if (after == null || after.isBlank()) {
+			return this.orderItemRepository.findAllByOrderByProductIdAscOrderIdAsc(PaginationHelper.firstRows(limit));
+		}
+		final String[] keys = after.split(CURSOR_SEPARATOR, -1);
+		if (keys.length != 2) {
+			throw new InvalidCursorException(String.format("Cursor: [%s] is not valid", after));
+		}
+		try {
+			return this.orderItemRepository.findAllAfter(Integer.parseInt(keys[1]), Integer.parseInt(keys[0]), 
+					PaginationHelper.firstRows(limit));
+		}
+		catch (NumberFormatException e) {
+			throw new InvalidCursorException(String.format("Cursor: [%s] is not valid", after), e);
+		}
+	}
+	
+	private OrderDto fetchOrder(final Integer orderId) {
+		return this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.ORDER_SERVICE_API_URL + "/" + orderId, OrderDto.class);
+	}
+	
+	// one call per page whatever its number of orders, same as the product batch in ProductCacheLoader
+	private Map<Integer, OrderDto> fetchOrders(final Set<Integer> orderIds) {
+		if (orderIds.isEmpty()) {
+			return Map.of();
+		}
+		final DtoCollectionResponse<OrderDto> response = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/batch", 
+				HttpMethod.POST, 
+				new HttpEntity<>(orderIds), 
+				new ParameterizedTypeReference<DtoCollectionResponse<OrderDto>>() {})
+			.getBody();
+		if (response == null || response.getCollection() == null) {
+			return Map.of();
+		}
+		return response.getCollection().stream()
+				.collect(Collectors.toMap(OrderDto::getOrderId, Function.identity(), (first, second) -> first));
+	}
+	
+	private long deadline() {
+		return System.nanoTime() + this.enrichmentProperties.getDeadline().toNanos();
+	}
+	
+	private <T> CompletableFuture<T> submit(final Supplier<T> lookup) {
+		try {
+			return CompletableFuture.supplyAsync(lookup, this.enrichmentExecutor);
+		}
+		catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	private <T> T await(final CompletableFuture<T> future, final long deadline, final T fallback, final Counter partialCounter) {
+		try {
+			final T result = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			return (result != null) ? result : fallback;
+		}
+		catch (TimeoutException e) {
+			log.warn("*** Enrichment lookup missed the deadline, keeping partial result *");
+			future.cancel(false);
+		}
+		catch (ExecutionException e) {
+			log.warn("*** Enrichment lookup failed, keeping partial result: {} *", e.getCause().toString());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		partialCounter.increment();
+		return fallback;
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
 				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
+					final long deadline = this.deadline();
+					final CompletableFuture<ProductDto> productDtoFuture = 
+							this.submit(() -> this.productCache.get(o.getProductId()));
+					final CompletableFuture<OrderDto> orderDtoFuture = 
+							this.submit(() -> this.fetchOrder(o.getOrderId()));
+					o.setProductDto(this.await(productDtoFuture, deadline, o.getProductDto(), this.productPartialCounter));
+					o.setOrderDto(this.await(orderDtoFuture, deadline, o.getOrderDto(), this.orderPartialCounter));
 					return o;
 				})
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
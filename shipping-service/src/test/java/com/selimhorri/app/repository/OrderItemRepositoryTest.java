@@ -0,0 +1,45 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.selimhorri.app.domain.OrderItem;
+
+@DataJpaTest
+public class OrderItemRepositoryTest {
+    
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+    
+    @Test
+    @DisplayName("Test findAllByOrderByProductIdAscOrderIdAsc returns the first page in key order")
+    public void testFindAllByOrderByProductIdAscOrderIdAsc() {
+        // Act
+        List<OrderItem> orderItems = orderItemRepository.findAllByOrderByProductIdAscOrderIdAsc(PageRequest.of(0, 3));
+        
+        // Assert
+        assertEquals(List.of("1/1", "1/2", "2/1"), orderItems.stream()
+                .map(o -> o.getProductId() + "/" + o.getOrderId())
+                .collect(Collectors.toList()));
+    }
+    
+    @Test
+    @DisplayName("Test findAllAfter resumes after the composite key of the cursor")
+    public void testFindAllAfter() {
+        // Act
+        List<OrderItem> orderItems = orderItemRepository.findAllAfter(1, 2, PageRequest.of(0, 10));
+        
+        // Assert
+        assertEquals(List.of("2/1", "2/2"), orderItems.stream()
+                .map(o -> o.getProductId() + "/" + o.getOrderId())
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,251 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.config.cache.ProductCacheLoader;
+import com.selimhorri.app.config.enrichment.EnrichmentProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+import com.selimhorri.app.repository.OrderItemRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderItemServiceImplTest {
+    
+    private static final String PRODUCT_BATCH_URL = AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch";
+    private static final String ORDER_BATCH_URL = AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/batch";
+    private static final String PRODUCT_URL = AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/10";
+    private static final String ORDER_URL = AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/1";
+    
+    @Mock
+    private OrderItemRepository orderItemRepository;
+    
+    @Mock
+    private RestTemplate restTemplate;
+    
+    private LoadingCache<Integer, ProductDto> productCache;
+    private ThreadPoolExecutor enrichmentExecutor;
+    private EnrichmentProperties enrichmentProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private OrderItemServiceImpl orderItemService;
+    
+    @BeforeEach
+    public void setup() {
+        // Setup test data
+        enrichmentExecutor = new ThreadPoolExecutor(4, 4, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16));
+        enrichmentProperties = new EnrichmentProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        productCache = Caffeine.newBuilder()
+                .maximumSize(10)
+                .recordStats()
+                .build(new ProductCacheLoader(restTemplate));
+        orderItemService = new OrderItemServiceImpl(orderItemRepository, restTemplate, productCache, enrichmentExecutor, 
+                enrichmentProperties, meterRegistry);
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        enrichmentExecutor.shutdownNow();
+    }
+    
+    @Test
+    @DisplayName("Test findAll enriches all order items with a single product and a single order lookup")
+    @SuppressWarnings("unchecked")
+    public void testFindAll_FetchesProductsAndOrdersInOneCallEach() {
+        // Arrange
+        when(orderItemRepository.findAllByOrderByProductIdAscOrderIdAsc(any(Pageable.class))).thenReturn(List.of(
+                OrderItem.builder().orderId(1).productId(10).orderedQuantity(1).build(),
+                OrderItem.builder().orderId(2).productId(10).orderedQuantity(2).build(),
+                OrderItem.builder().orderId(2).productId(20).orderedQuantity(3).build()));
+        when(restTemplate.exchange(eq(PRODUCT_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), 
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                        ProductDto.builder().productId(10).productTitle("asus").build(),
+                        ProductDto.builder().productId(20).productTitle("hp").build()))));
+        when(restTemplate.exchange(eq(ORDER_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), 
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                        OrderDto.builder().orderId(1).orderDesc("init").build(),
+                        OrderDto.builder().orderId(2).orderDesc("paid").build()))));
+        ArgumentCaptor<HttpEntity<Set<Integer>>> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        ArgumentCaptor<HttpEntity<Set<Integer>>> orderCaptor = ArgumentCaptor.forClass(HttpEntity.class);
+        
+        // Act
+        List<OrderItemDto> result = List.copyOf(orderItemService.findAll(null, 100, Set.of("product", "order")).getCollection());
+        
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals("asus", result.get(1).getProductDto().getProductTitle());
+        assertEquals("hp", result.get(2).getProductDto().getProductTitle());
+        verify(restTemplate, times(1)).exchange(eq(PRODUCT_BATCH_URL), eq(HttpMethod.POST), captor.capture(), 
+                any(ParameterizedTypeReference.class));
+        verify(restTemplate, times(1)).exchange(eq(ORDER_BATCH_URL), eq(HttpMethod.POST), orderCaptor.capture(), 
+                any(ParameterizedTypeReference.class));
+        verify(restTemplate, never()).getForObject(any(String.class), eq(OrderDto.class));
+        assertEquals(Set.of(10, 20), captor.getValue().getBody());
+        assertEquals(Set.of(1, 2), orderCaptor.getValue().getBody());
+        assertEquals("init", result.get(0).getOrderDto().getOrderDesc());
+        assertEquals("paid", result.get(2).getOrderDto().getOrderDesc());
+    }
+    
+    @Test
+    @DisplayName("Test findById looks up product and order concurrently")
+    public void testFindById_LooksUpConcurrently() {
+        // Arrange
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        when(orderItemRepository.findById(any(OrderItemId.class))).thenReturn(Optional.of(
+                OrderItem.builder().orderId(1).productId(10).orderedQuantity(1).build()));
+        // each lookup only returns once the other one is in flight as well
+        when(restTemplate.getForObject(PRODUCT_URL, ProductDto.class)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(2, TimeUnit.SECONDS);
+            return ProductDto.builder().productId(10).productTitle("asus").build();
+        });
+        when(restTemplate.getForObject(ORDER_URL, OrderDto.class)).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(2, TimeUnit.SECONDS);
+            return OrderDto.builder().orderId(1).orderDesc("init").build();
+        });
+        
+        // Act
+        OrderItemDto result = orderItemService.findById(new OrderItemId(10, 1));
+        
+        // Assert
+        assertEquals(0, bothStarted.getCount());
+        assertEquals("asus", result.getProductDto().getProductTitle());
+        assertEquals("init", result.getOrderDto().getOrderDesc());
+        assertEquals(0, meterRegistry.get(OrderItemServiceImpl.PARTIAL_COUNTER).counters().stream()
+                .mapToDouble(c -> c.count()).sum());
+    }
+    
+    @Test
+    @DisplayName("Test findById keeps the stub order when order-service misses the deadline")
+    public void testFindById_WhenOrderLookupTooSlow() {
+        // Arrange
+        enrichmentProperties.setDeadline(Duration.ofMillis(200));
+        final CountDownLatch release = new CountDownLatch(1);
+        when(orderItemRepository.findById(any(OrderItemId.class))).thenReturn(Optional.of(
+                OrderItem.builder().orderId(1).productId(10).orderedQuantity(1).build()));
+        when(restTemplate.getForObject(PRODUCT_URL, ProductDto.class))
+                .thenReturn(ProductDto.builder().productId(10).productTitle("asus").build());
+        when(restTemplate.getForObject(ORDER_URL, OrderDto.class)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return OrderDto.builder().orderId(1).orderDesc("late").build();
+        });
+        
+        // Act
+        final long start = System.nanoTime();
+        OrderItemDto result = orderItemService.findById(new OrderItemId(10, 1));
+        final long elapsed = System.nanoTime() - start;
+        release.countDown();
+        
+        // Assert
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(2));
+        assertEquals("asus", result.getProductDto().getProductTitle());
+        assertEquals(1, result.getOrderDto().getOrderId());
+        assertNull(result.getOrderDto().getOrderDesc());
+        assertEquals(1, meterRegistry.get(OrderItemServiceImpl.PARTIAL_COUNTER)
+                .tag("dependency", "order").counter().count());
+    }
+    
+    @Test
+    @DisplayName("Test findAll resolves only the requested relations")
+    @SuppressWarnings("unchecked")
+    public void testFindAll_ExpandsOnlyRequestedRelations() {
+        // Arrange
+        when(orderItemRepository.findAllByOrderByProductIdAscOrderIdAsc(any(Pageable.class))).thenReturn(List.of(
+                OrderItem.builder().orderId(1).productId(10).orderedQuantity(1).build()));
+        when(restTemplate.exchange(eq(PRODUCT_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), 
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                        ProductDto.builder().productId(10).productTitle("asus").build()))));
+        
+        // Act
+        List<OrderItemDto> result = List.copyOf(orderItemService.findAll(null, 100, Set.of("product")).getCollection());
+        
+        // Assert
+        assertEquals("asus", result.get(0).getProductDto().getProductTitle());
+        assertEquals(1, result.get(0).getOrderDto().getOrderId());
+        assertNull(result.get(0).getOrderDto().getOrderDesc());
+        verify(restTemplate, never()).exchange(eq(ORDER_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), 
+                any(ParameterizedTypeReference.class));
+    }
+    
+    @Test
+    @DisplayName("Test repeated findAll serves products from the local cache")
+    @SuppressWarnings("unchecked")
+    public void testFindAll_UsesProductCache() {
+        // Arrange
+        when(orderItemRepository.findAllByOrderByProductIdAscOrderIdAsc(any(Pageable.class))).thenReturn(List.of(
+                OrderItem.builder().orderId(1).productId(10).orderedQuantity(1).build()));
+        when(restTemplate.exchange(eq(PRODUCT_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), 
+                any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                        ProductDto.builder().productId(10).productTitle("asus").build()))));
+        
+        // Act
+        orderItemService.findAll(null, 100, Set.of("product"));
+        List<OrderItemDto> result = List.copyOf(orderItemService.findAll(null, 100, Set.of("product")).getCollection());
+        
+        // Assert
+        assertEquals("asus", result.get(0).getProductDto().getProductTitle());
+        assertEquals(1, productCache.stats().hitCount());
+        verify(restTemplate, times(1)).exchange(eq(PRODUCT_BATCH_URL), eq(HttpMethod.POST), any(HttpEntity.class), 
+                any(ParameterizedTypeReference.class));
+    }
+    
+    @Test
+    @DisplayName("Test findAll rejects a malformed cursor without querying")
+    public void testFindAll_WhenCursorMalformed() {
+        // Act & Assert
+        for (String cursor : List.of("1", "1/10/3", "x/10", "1/")) {
+            assertThrows(InvalidCursorException.class, () -> {
+                orderItemService.findAll(cursor, 100, Set.of());
+            });
+        }
+        
+        verify(orderItemRepository, never()).findAllAfter(any(), any(), any());
+    }
+}
@@ -34,6 +34,16 @@ public abstract class AppConstant {
 		
 	}
 	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class Pagination {
+		
+		public static final String AFTER_PARAM = "after";
+		public static final String LIMIT_PARAM = "limit";
+		public static final String DEFAULT_LIMIT = "100";
+		public static final int MAX_LIMIT = 1000;
+		
+	}
+	
 	
 	
 }
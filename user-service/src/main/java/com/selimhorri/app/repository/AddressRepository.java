@@ -1,11 +1,14 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.Address;
 
 public interface AddressRepository extends JpaRepository<Address, Integer> {
 	
-	
+	List<Address> findByAddressIdGreaterThanOrderByAddressIdAsc(final Integer addressId, final Pageable pageable);
 	
 }
@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.AddressDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.AddressService;
@@ -30,9 +32,11 @@ public class AddressResource {
 	private final AddressService addressService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<AddressDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<AddressDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final Integer after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit) {
 		log.info("*** AddressDto List, controller; fetch all addresss *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.addressService.findAll()));
+		return ResponseEntity.ok(this.addressService.findAll(after, limit));
 	}
 	
 	@GetMapping("/{addressId}")
@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.CredentialService;
@@ -30,9 +32,11 @@ public class CredentialResource {
 	private final CredentialService credentialService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final Integer after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit) {
 		log.info("*** CredentialDto List, controller; fetch all credentials *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.credentialService.findAll()));
+		return ResponseEntity.ok(this.credentialService.findAll(after, limit));
 	}
 	
 	@GetMapping("/{credentialId}")
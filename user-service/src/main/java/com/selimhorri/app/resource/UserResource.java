@@ -1,10 +1,15 @@
 package com.selimhorri.app.resource;
 
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,8 +17,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.UserService;
@@ -21,6 +28,7 @@ import com.selimhorri.app.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+@Validated
 @RestController
 @RequestMapping(value = {"/api/users"})
 @Slf4j
@@ -30,9 +38,11 @@ public class UserResource {
 	private final UserService userService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<UserDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<UserDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final Integer after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit) {
 		log.info("*** UserDto List, controller; fetch all users *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.userService.findAll()));
+		return ResponseEntity.ok(this.userService.findAll(after, limit));
 	}
 	
 	@GetMapping("/{userId}")
@@ -44,6 +54,16 @@ public class UserResource {
 		return ResponseEntity.ok(this.userService.findById(Integer.parseInt(userId.strip())));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, UserDto>> findAllById(
+			@RequestBody 
+			@NotNull(message = "Input must not NULL") 
+			@Size(max = AppConstant.Pagination.MAX_LIMIT, message = "At most " + AppConstant.Pagination.MAX_LIMIT + " ids per batch") 
+			final Set<Integer> userIds) {
+		log.info("*** UserDto Map, resource; fetch users by ids *");
+		return ResponseEntity.ok(this.userService.findAllById(userIds));
+	}
+	
 	@PostMapping
 	public ResponseEntity<UserDto> save(
 			@RequestBody 
@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.VerificationTokenDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.VerificationTokenService;
@@ -30,9 +32,11 @@ public class VerificationTokenResource {
 	private final VerificationTokenService verificationTokenService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<VerificationTokenDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<VerificationTokenDto>> findAll(
+			@RequestParam(name = AppConstant.Pagination.AFTER_PARAM, required = false) final Integer after, 
+			@RequestParam(name = AppConstant.Pagination.LIMIT_PARAM, defaultValue = AppConstant.Pagination.DEFAULT_LIMIT) final int limit) {
 		log.info("*** VerificationTokenDto List, controller; fetch all verificationTokens *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.verificationTokenService.findAll()));
+		return ResponseEntity.ok(this.verificationTokenService.findAll(after, limit));
 	}
 	
 	@GetMapping("/{verificationTokenId}")
@@ -3,13 +3,15 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.domain.Address;
 import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.AddressNotFoundException;
 import com.selimhorri.app.helper.AddressMappingHelper;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.repository.AddressRepository;
 import com.selimhorri.app.service.AddressService;
 
@@ -25,16 +27,20 @@ public class AddressServiceImpl implements AddressService {
 	private final AddressRepository addressRepository;
 	
 	@Override
-	public List<AddressDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<AddressDto> findAll(final Integer after, final int limit) {
 		log.info("*** AddressDto List, service; fetch all addresss *");
-		return this.addressRepository.findAll()
+		final List<Address> addresss = this.addressRepository.findByAddressIdGreaterThanOrderByAddressIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		return new DtoCollectionResponse<>(PaginationHelper.page(addresss, limit)
 				.stream()
 					.map(AddressMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(addresss, limit, a -> String.valueOf(a.getAddressId())));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public AddressDto findById(final Integer addressId) {
 		log.info("*** AddressDto, service; fetch address by id *");
 		return this.addressRepository.findById(addressId)
@@ -3,14 +3,16 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.CredentialMappingHelper;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.repository.CredentialRepository;
 import com.selimhorri.app.service.CredentialService;
 
@@ -26,16 +28,20 @@ public class CredentialServiceImpl implements CredentialService {
 	private final CredentialRepository credentialRepository;
 	
 	@Override
-	public List<CredentialDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<CredentialDto> findAll(final Integer after, final int limit) {
 		log.info("*** CredentialDto List, service; fetch all credentials *");
-		return this.credentialRepository.findAll()
+		final List<Credential> credentials = this.credentialRepository.findByCredentialIdGreaterThanOrderByCredentialIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		return new DtoCollectionResponse<>(PaginationHelper.page(credentials, limit)
 				.stream()
 					.map(CredentialMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(credentials, limit, c -> String.valueOf(c.getCredentialId())));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public CredentialDto findById(final Integer credentialId) {
 		log.info("*** CredentialDto, service; fetch credential by ids *");
 		return this.credentialRepository.findById(credentialId)
@@ -69,6 +75,7 @@ public class CredentialServiceImpl implements CredentialService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public CredentialDto findByUsername(final String username) {
 		return CredentialMappingHelper.map(this.credentialRepository.findByUsername(username)
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
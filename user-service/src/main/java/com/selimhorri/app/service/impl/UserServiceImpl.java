@@ -1,14 +1,19 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.UserService;
@@ -25,16 +30,20 @@ public class UserServiceImpl implements UserService {
 	private final UserRepository userRepository;
 	
 	@Override
-	public List<UserDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<UserDto> findAll(final Integer after, final int limit) {
 		log.info("*** UserDto List, service; fetch all users *");
-		return this.userRepository.findAll()
+		final List<User> users = this.userRepository.findByUserIdGreaterThanOrderByUserIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		return new DtoCollectionResponse<>(PaginationHelper.page(users, limit)
 				.stream()
 					.map(UserMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(users, limit, u -> String.valueOf(u.getUserId())));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
 		return this.userRepository.findById(userId)
@@ -42,6 +51,19 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with id: %d not found", userId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Integer, UserDto> findAllById(final Collection<Integer> userIds) {
+		log.info("*** UserDto Map, service; fetch users by ids *");
+		if (userIds == null || userIds.isEmpty()) {
+			return Map.of();
+		}
+		return this.userRepository.findAllWithCredentialByUserIdIn(userIds)
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(UserDto::getUserId, Function.identity()));
+	}
+	
 	@Override
 	public UserDto save(final UserDto userDto) {
 		log.info("*** UserDto, service; save user *");
@@ -68,6 +90,7 @@ public class UserServiceImpl implements UserService {
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public UserDto findByUsername(final String username) {
 		log.info("*** UserDto, service; fetch user with username *");
 		return UserMappingHelper.map(this.userRepository.findByCredentialUsername(username)
@@ -3,12 +3,14 @@ package com.selimhorri.app.service.impl;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
-
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.selimhorri.app.domain.VerificationToken;
 import com.selimhorri.app.dto.VerificationTokenDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
+import com.selimhorri.app.helper.PaginationHelper;
 import com.selimhorri.app.helper.VerificationTokenMappingHelper;
 import com.selimhorri.app.repository.VerificationTokenRepository;
 import com.selimhorri.app.service.VerificationTokenService;
@@ -25,16 +27,20 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 	private final VerificationTokenRepository verificationTokenRepository;
 	
 	@Override
-	public List<VerificationTokenDto> findAll() {
+	@Transactional(readOnly = true)
+	public DtoCollectionResponse<VerificationTokenDto> findAll(final Integer after, final int limit) {
 		log.info("*** VerificationTokenDto List, service; fetch all verificationTokens *");
-		return this.verificationTokenRepository.findAll()
+		final List<VerificationToken> verificationTokens = this.verificationTokenRepository.findByVerificationTokenIdGreaterThanOrderByVerificationTokenIdAsc(
+				(after != null) ? after : 0, PaginationHelper.firstRows(limit));
+		return new DtoCollectionResponse<>(PaginationHelper.page(verificationTokens, limit)
 				.stream()
 					.map(VerificationTokenMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()), 
+				PaginationHelper.nextCursor(verificationTokens, limit, v -> String.valueOf(v.getVerificationTokenId())));
 	}
 	
 	@Override
+	@Transactional(readOnly = true)
 	public VerificationTokenDto findById(final Integer verificationTokenId) {
 		log.info("*** VerificationTokenDto, service; fetch verificationToken by ids *");
 		return this.verificationTokenRepository.findById(verificationTokenId)
@@ -0,0 +1,32 @@
+
+CREATE TABLE users_seq (
+	next_val BIGINT
+);
+
+INSERT INTO users_seq
+(next_val)
+SELECT COALESCE(MAX(user_id), 0) + 1 FROM users;
+
+CREATE TABLE address_seq (
+	next_val BIGINT
+);
+
+INSERT INTO address_seq
+(next_val)
+SELECT COALESCE(MAX(address_id), 0) + 1 FROM address;
+
+CREATE TABLE credentials_seq (
+	next_val BIGINT
+);
+
+INSERT INTO credentials_seq
+(next_val)
+SELECT COALESCE(MAX(credential_id), 0) + 1 FROM credentials;
+
+CREATE TABLE verification_tokens_seq (
+	next_val BIGINT
+);
+
+INSERT INTO verification_tokens_seq
+(next_val)
+SELECT COALESCE(MAX(verification_token_id), 0) + 1 FROM verification_tokens;
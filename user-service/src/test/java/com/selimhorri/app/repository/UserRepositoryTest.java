@@ -4,7 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -74,4 +76,38 @@ public class UserRepositoryTest {
         // Assert
         assertTrue(foundUser.isEmpty());
     }
+    
+    @Test
+    @DisplayName("Test findAllWithCredentialByUserIdIn returns users with their credential")
+    public void testFindAllWithCredentialByUserIdIn() {
+        // Arrange
+        Credential credential = Credential.builder()
+                .username("batchuser")
+                .password("password")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build();
+        
+        User user = User.builder()
+                .firstName("Batch")
+                .lastName("User")
+                .email("batch@example.com")
+                .phone("1234567890")
+                .credential(credential)
+                .build();
+        
+        credential.setUser(user);
+        Integer userId = userRepository.save(user).getUserId();
+        
+        // Act
+        List<User> users = userRepository.findAllWithCredentialByUserIdIn(Set.of(userId, -1));
+        
+        // Assert
+        assertEquals(1, users.size());
+        assertNotNull(users.get(0).getCredential());
+        assertEquals("batchuser", users.get(0).getCredential().getUsername());
+    }
 }
@@ -0,0 +1,70 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.selimhorri.app.domain.VerificationToken;
+import com.selimhorri.app.dto.VerificationTokenDto;
+import com.selimhorri.app.helper.VerificationTokenMappingHelper;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class VerificationTokenRepositoryTest {
+    
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Test
+    @DisplayName("Test findByVerificationTokenIdGreaterThan maps a page with credentials in one statement whatever its size")
+    public void testFindByVerificationTokenIdGreaterThan_ConstantStatements() {
+        // Arrange
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        
+        // Act & Assert
+        for (int limit : new int[] {1, 4}) {
+            entityManager.clear();
+            statistics.clear();
+            List<VerificationTokenDto> verificationTokens = verificationTokenRepository
+                    .findByVerificationTokenIdGreaterThanOrderByVerificationTokenIdAsc(0, PageRequest.of(0, limit))
+                    .stream()
+                    .map(VerificationTokenMappingHelper::map)
+                    .collect(Collectors.toList());
+            assertEquals(limit, verificationTokens.size());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test findById fetches the credential but leaves its user unloaded")
+    public void testFindById() {
+        // Arrange
+        entityManager.clear();
+        
+        // Act
+        VerificationToken verificationToken = verificationTokenRepository.findById(1).get();
+        
+        // Assert
+        assertTrue(Hibernate.isInitialized(verificationToken.getCredential()));
+        assertEquals(1, verificationToken.getCredential().getCredentialId());
+        assertFalse(Hibernate.isInitialized(verificationToken.getCredential().getUser()));
+    }
+}
@@ -4,6 +4,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -14,6 +16,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,9 +31,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.RoleBasedAuthority;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.dto.UserDto;
-import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.service.UserService;
 
 @WebMvcTest(UserResource.class)
@@ -94,7 +102,7 @@ public class UserResourceTest {
     public void testFindAll() throws Exception {
         // Arrange
         List<UserDto> userDtos = Arrays.asList(userDto1, userDto2);
-        when(userService.findAll()).thenReturn(userDtos);
+        when(userService.findAll(null, 100)).thenReturn(new DtoCollectionResponse<>(userDtos));
         
         // Act & Assert
         mockMvc.perform(get("/api/users"))
@@ -103,7 +111,22 @@ public class UserResourceTest {
             .andExpect(jsonPath("$.collection[0].userId", is(1)))
             .andExpect(jsonPath("$.collection[0].firstName", is("John")))
             .andExpect(jsonPath("$.collection[1].userId", is(2)))
-            .andExpect(jsonPath("$.collection[1].firstName", is("Jane")));
+            .andExpect(jsonPath("$.collection[1].firstName", is("Jane")))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+    
+    @Test
+    @DisplayName("Test findAll endpoint passes the cursor and limit and returns the next cursor")
+    public void testFindAll_WithCursor() throws Exception {
+        // Arrange
+        when(userService.findAll(1, 1)).thenReturn(new DtoCollectionResponse<>(List.of(userDto2), "2"));
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/users").param("after", "1").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.collection.size()", is(1)))
+            .andExpect(jsonPath("$.collection[0].userId", is(2)))
+            .andExpect(jsonPath("$.nextCursor", is("2")));
     }
     
     @Test
@@ -120,6 +143,38 @@ public class UserResourceTest {
             .andExpect(jsonPath("$.email", is("john@example.com")));
     }
     
+    @Test
+    @DisplayName("Test batch endpoint returns users keyed by id")
+    public void testFindAllById() throws Exception {
+        // Arrange
+        when(userService.findAllById(Set.of(1, 2))).thenReturn(Map.of(1, userDto1, 2, userDto2));
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(Set.of(1, 2))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.size()", is(2)))
+            .andExpect(jsonPath("$.1.firstName", is("John")))
+            .andExpect(jsonPath("$.2.credential.username", is("user2")));
+    }
+    
+    @Test
+    @DisplayName("Test batch endpoint rejects more ids than one page holds")
+    public void testFindAllById_WhenTooManyIds() throws Exception {
+        // Arrange
+        Set<Integer> userIds = IntStream.rangeClosed(1, AppConstant.Pagination.MAX_LIMIT + 1)
+                .boxed()
+                .collect(Collectors.toSet());
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/users/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(userIds)))
+            .andExpect(status().isBadRequest());
+        verify(userService, never()).findAllById(any());
+    }
+    
     @Test
     @DisplayName("Test save endpoint creates a new user")
     public void testSave() throws Exception {
@@ -11,7 +11,6 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,10 +20,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.selimhorri.app.domain.Address;
 import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.AddressNotFoundException;
 import com.selimhorri.app.helper.AddressMappingHelper;
 import com.selimhorri.app.repository.AddressRepository;
@@ -77,14 +78,15 @@ public class AddressServiceImplTest {
     @DisplayName("Test findAll returns all addresses")
     public void testFindAll() {
         // Arrange
-        when(addressRepository.findAll()).thenReturn(Arrays.asList(address1, address2));
+        when(addressRepository.findByAddressIdGreaterThanOrderByAddressIdAsc(0, PageRequest.of(0, 101)))
+                .thenReturn(Arrays.asList(address1, address2));
         
         // Act
-        List<AddressDto> addresses = addressService.findAll();
+        DtoCollectionResponse<AddressDto> addresses = addressService.findAll(null, 100);
         
         // Assert
-        assertEquals(2, addresses.size());
-        verify(addressRepository, times(1)).findAll();
+        assertEquals(2, addresses.getCollection().size());
+        verify(addressRepository, times(1)).findByAddressIdGreaterThanOrderByAddressIdAsc(0, PageRequest.of(0, 101));
     }
     
     @Test
@@ -2,6 +2,7 @@ package com.selimhorri.app.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -12,7 +13,9 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,11 +24,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.domain.RoleBasedAuthority;
 import com.selimhorri.app.domain.User;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
@@ -94,17 +99,50 @@ public class UserServiceImplTest {
     }
     
     @Test
-    @DisplayName("Test findAll returns all users")
+    @DisplayName("Test findAll returns the last page without a next cursor")
     public void testFindAll() {
         // Arrange
-        when(userRepository.findAll()).thenReturn(Arrays.asList(user1, user2));
+        when(userRepository.findByUserIdGreaterThanOrderByUserIdAsc(0, PageRequest.of(0, 11)))
+                .thenReturn(Arrays.asList(user1, user2));
         
         // Act
-        List<UserDto> users = userService.findAll();
+        DtoCollectionResponse<UserDto> users = userService.findAll(null, 10);
+        
+        // Assert
+        assertEquals(2, users.getCollection().size());
+        assertNull(users.getNextCursor());
+        verify(userRepository, times(1)).findByUserIdGreaterThanOrderByUserIdAsc(0, PageRequest.of(0, 11));
+    }
+    
+    @Test
+    @DisplayName("Test findAll stops at the limit and returns the last id as cursor")
+    public void testFindAll_WhenMoreRowsFollow() {
+        // Arrange
+        when(userRepository.findByUserIdGreaterThanOrderByUserIdAsc(0, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(user1, user2));
+        
+        // Act
+        DtoCollectionResponse<UserDto> users = userService.findAll(null, 1);
+        
+        // Assert
+        assertEquals(1, users.getCollection().size());
+        assertEquals("1", users.getNextCursor());
+    }
+    
+    @Test
+    @DisplayName("Test findAllById returns users keyed by id from one query")
+    public void testFindAllById() {
+        // Arrange
+        when(userRepository.findAllWithCredentialByUserIdIn(Set.of(1, 2))).thenReturn(Arrays.asList(user1, user2));
+        
+        // Act
+        Map<Integer, UserDto> users = userService.findAllById(Set.of(1, 2));
         
         // Assert
         assertEquals(2, users.size());
-        verify(userRepository, times(1)).findAll();
+        assertEquals("John", users.get(1).getFirstName());
+        assertEquals("user2", users.get(2).getCredentialDto().getUsername());
+        verify(userRepository, times(1)).findAllWithCredentialByUserIdIn(Set.of(1, 2));
     }
     
     @Test